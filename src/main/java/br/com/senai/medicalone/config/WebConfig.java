@@ -1,6 +1,7 @@
 
 package br.com.senai.medicalone.config;
 
+import br.com.senai.medicalone.config.datasource.ConsistencyTokenFilter;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
@@ -15,6 +16,7 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedOrigins("http://localhost:4200")
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders(ConsistencyTokenFilter.TOKEN_HEADER)
                 .allowCredentials(true);
     }
 
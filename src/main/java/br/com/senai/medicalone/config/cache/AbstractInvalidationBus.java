@@ -0,0 +1,37 @@
+package br.com.senai.medicalone.config.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+public abstract class AbstractInvalidationBus implements InvalidationBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(AbstractInvalidationBus.class);
+
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+    @Override
+    public void subscribe(String entityType, Consumer<String> listener) {
+        listeners.computeIfAbsent(entityType, type -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    protected void deliver(String entityType, String id) {
+        for (Consumer<String> listener : listeners.getOrDefault(entityType, List.of())) {
+            try {
+                listener.accept(id);
+            } catch (RuntimeException e) {
+                // uma falha em um cache não pode impedir a invalidação dos demais
+                logger.warn("Falha ao invalidar o cache de {} para o id {}", entityType, id != null ? id : "(todos)", e);
+            }
+        }
+    }
+
+    protected void deliverAll() {
+        listeners.keySet().forEach(entityType -> deliver(entityType, null));
+    }
+}
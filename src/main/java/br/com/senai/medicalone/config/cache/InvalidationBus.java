@@ -0,0 +1,20 @@
+package br.com.senai.medicalone.config.cache;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+public interface InvalidationBus {
+
+    String PATIENT = "patient";
+    String USER = "user";
+    String EXAM = "exam";
+    String APPOINTMENT = "appointment";
+
+    void publish(String entityType, Object id);
+
+    default void publishAll(String entityType, Collection<?> ids) {
+        ids.forEach(id -> publish(entityType, id));
+    }
+
+    void subscribe(String entityType, Consumer<String> listener);
+}
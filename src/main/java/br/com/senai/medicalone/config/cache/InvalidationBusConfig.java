@@ -0,0 +1,35 @@
+package br.com.senai.medicalone.config.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class InvalidationBusConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(name = "cache.invalidation.bus", havingValue = "postgres", matchIfMissing = true)
+    public PostgresInvalidationBus postgresInvalidationBus(DataSource dataSource,
+                                                           @Value("${cache.invalidation.channel:medicalone_cache_invalidation}") String channel,
+                                                           @Value("${cache.invalidation.reconnect-interval:5000}") long reconnectInterval) {
+        return new PostgresInvalidationBus(dataSource, channel, reconnectInterval);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.invalidation.bus", havingValue = "postgres", matchIfMissing = true)
+    public MeterBinder invalidationBusMetrics(PostgresInvalidationBus postgresInvalidationBus) {
+        return registry -> Gauge.builder("cache.invalidation.listening", postgresInvalidationBus, bus -> bus.isListening() ? 1 : 0)
+                .register(registry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.invalidation.bus", havingValue = "loopback")
+    public LoopbackInvalidationBus loopbackInvalidationBus() {
+        return new LoopbackInvalidationBus();
+    }
+}
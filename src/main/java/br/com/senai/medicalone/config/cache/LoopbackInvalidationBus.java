@@ -0,0 +1,31 @@
+package br.com.senai.medicalone.config.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+public class LoopbackInvalidationBus extends AbstractInvalidationBus {
+
+    @Override
+    public void publish(String entityType, Object id) {
+        publishAll(entityType, Collections.singletonList(id));
+    }
+
+    @Override
+    public void publishAll(String entityType, Collection<?> ids) {
+        List<String> keys = ids.stream().map(id -> id != null ? id.toString() : null).toList();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            keys.forEach(key -> deliver(entityType, key));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                keys.forEach(key -> deliver(entityType, key));
+            }
+        });
+    }
+}
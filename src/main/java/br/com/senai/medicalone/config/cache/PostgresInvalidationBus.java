@@ -0,0 +1,137 @@
+package br.com.senai.medicalone.config.cache;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+public class PostgresInvalidationBus extends AbstractInvalidationBus implements Closeable {
+
+    private static final Pattern CHANNEL = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final String SEPARATOR = ":";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final String channel;
+    private final long reconnectInterval;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile boolean running;
+    private volatile boolean listening;
+    private Thread listener;
+
+    public PostgresInvalidationBus(DataSource dataSource, String channel, long reconnectInterval) {
+        if (!CHANNEL.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Canal de invalidação inválido: " + channel);
+        }
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.channel = channel;
+        this.reconnectInterval = reconnectInterval;
+    }
+
+    @Override
+    public void publish(String entityType, Object id) {
+        String payload = nodeId + SEPARATOR + entityType + SEPARATOR + (id != null ? id : "");
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, channel, payload);
+    }
+
+    @Override
+    public void publishAll(String entityType, Collection<?> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Object[] payloads = ids.stream()
+                .map(id -> nodeId + SEPARATOR + entityType + SEPARATOR + (id != null ? id : ""))
+                .toArray();
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT pg_notify(?, payload) FROM unnest(?) AS payload")) {
+                statement.setString(1, channel);
+                statement.setArray(2, connection.createArrayOf("text", payloads));
+                statement.executeQuery().close();
+            }
+            return null;
+        });
+    }
+
+    public boolean isListening() {
+        return listening;
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        listener = new Thread(this::listen, "invalidation-bus-" + channel);
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @Override
+    public synchronized void close() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+            try {
+                listener.join(reconnectInterval);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            listener = null;
+        }
+    }
+
+    private void listen() {
+        boolean missedNotifications = false;
+        while (running) {
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + channel);
+                listening = true;
+                if (missedNotifications) {
+                    deliverAll();
+                    missedNotifications = false;
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) Math.min(reconnectInterval, 1000));
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            receive(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                listening = false;
+                missedNotifications = true;
+                try {
+                    Thread.sleep(reconnectInterval);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+        listening = false;
+    }
+
+    private void receive(String payload) {
+        String[] parts = payload.split(SEPARATOR, 3);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        deliver(parts[1], parts[2].isEmpty() ? null : parts[2]);
+    }
+}
@@ -0,0 +1,70 @@
+package br.com.senai.medicalone.config.data;
+
+import br.com.senai.medicalone.utils.TextNormalizer;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.springframework.stereotype.Component;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.List;
+
+@Component
+public class AllergyTermsMigration implements JavaMigration {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Override
+    public MigrationVersion getVersion() {
+        return MigrationVersion.fromVersion("7");
+    }
+
+    @Override
+    public String getDescription() {
+        return "backfill patient allergy terms";
+    }
+
+    @Override
+    public Integer getChecksum() {
+        return null;
+    }
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return true;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        try (PreparedStatement select = connection.prepareStatement(
+                     "SELECT id, allergies FROM tb_pacients WHERE allergies IS NOT NULL");
+             PreparedStatement update = connection.prepareStatement(
+                     "UPDATE tb_pacients SET allergy_terms = ? WHERE id = ?")) {
+            select.setFetchSize(BATCH_SIZE);
+            int pending = 0;
+            try (ResultSet resultSet = select.executeQuery()) {
+                while (resultSet.next()) {
+                    Array allergies = resultSet.getArray("allergies");
+                    List<String> terms = TextNormalizer.normalizeAll(Arrays.stream((Object[]) allergies.getArray())
+                            .map(value -> (String) value)
+                            .toList());
+                    update.setArray(1, connection.createArrayOf("varchar", terms.toArray()));
+                    update.setLong(2, resultSet.getLong("id"));
+                    update.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        update.executeBatch();
+                        pending = 0;
+                    }
+                }
+            }
+            if (pending > 0) {
+                update.executeBatch();
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.senai.medicalone.config.data;
+
+import br.com.senai.medicalone.repositories.appointment.AppointmentRepository;
+import br.com.senai.medicalone.repositories.dashboard.DashboardRollupRepository;
+import br.com.senai.medicalone.repositories.exam.ExamRepository;
+import br.com.senai.medicalone.services.dashboard.DashboardRollupService;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DashboardRollupInitializer implements InitializingBean {
+
+    @Autowired
+    private DashboardRollupRepository dashboardRollupRepository;
+
+    @Autowired
+    private ExamRepository examRepository;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private DashboardRollupService dashboardRollupService;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (dashboardRollupRepository.count() == 0
+                && (examRepository.count() > 0 || appointmentRepository.count() > 0)) {
+            dashboardRollupService.rebuild();
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package br.com.senai.medicalone.config.data;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+public class DatePartitionMaintenance implements CommandLineRunner {
+
+    public static final String EXAMS = "tb_exams";
+    public static final String APPOINTMENTS = "tb_appointments";
+
+    private static final List<String> PARTITIONED_TABLES = List.of(EXAMS, APPOINTMENTS);
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final Pattern SCHEMA = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final Pattern LOCK_TIMEOUT = Pattern.compile("\\d+(ms|s|min)?");
+
+    private static final String PARTITIONS =
+            "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+            "WHERE i.inhparent = to_regclass(?) AND i.inhdetachpending = ?";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${partitioning.enabled:true}")
+    private boolean enabled;
+
+    @Value("${partitioning.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${partitioning.retention-months:0}")
+    private int retentionMonths;
+
+    @Value("${partitioning.archive-schema:archive}")
+    private String archiveSchema;
+
+    @Value("${partitioning.lock-timeout:5s}")
+    private String lockTimeout;
+
+    private final Map<String, Set<String>> attachedPartitions = new ConcurrentHashMap<>();
+
+    @Override
+    public void run(String... args) throws Exception {
+        if (!enabled || !isPostgreSQL()) {
+            return;
+        }
+        if (!SCHEMA.matcher(archiveSchema).matches()) {
+            throw new IllegalArgumentException("Schema de arquivamento inválido: " + archiveSchema);
+        }
+        if (!LOCK_TIMEOUT.matcher(lockTimeout).matches()) {
+            throw new IllegalArgumentException("Tempo limite de bloqueio inválido: " + lockTimeout);
+        }
+        for (String table : PARTITIONED_TABLES) {
+            if (isPartitioned(table)) {
+                Set<String> partitions = ConcurrentHashMap.newKeySet();
+                partitions.addAll(jdbcTemplate.queryForList(PARTITIONS, String.class, table, false));
+                attachedPartitions.put(table, partitions);
+            }
+        }
+        maintain();
+    }
+
+    @Scheduled(cron = "${partitioning.maintenance-cron:0 0 3 * * *}")
+    public void maintain() {
+        YearMonth current = YearMonth.now();
+        for (String table : attachedPartitions.keySet()) {
+            finalizePendingDetaches(table);
+            for (int i = 0; i <= monthsAhead; i++) {
+                ensurePartition(table, current.plusMonths(i).atDay(1));
+            }
+            if (retentionMonths > 0) {
+                archivePartitionsBefore(table, current.minusMonths(retentionMonths).atDay(1));
+            }
+        }
+    }
+
+    public boolean isPartitioned(String table) {
+        String kind = jdbcTemplate.queryForObject(
+                "SELECT CAST(relkind AS VARCHAR) FROM pg_class WHERE oid = to_regclass(?)", String.class, table);
+        return "p".equals(kind);
+    }
+
+    public void ensurePartition(String table, LocalDate date) {
+        Set<String> partitions = attachedPartitions.get(table);
+        if (partitions == null || date == null) {
+            return;
+        }
+        YearMonth month = YearMonth.from(date);
+        String partition = partitionName(table, month);
+        if (partitions.contains(partition)) {
+            return;
+        }
+        synchronized (partitions) {
+            if (!partitions.contains(partition)) {
+                createPartition(table, partition, month);
+                partitions.add(partition);
+            }
+        }
+    }
+
+    public List<String> archivePartitionsBefore(String table, LocalDate cutoff) {
+        Set<String> partitions = attachedPartitions.get(table);
+        List<String> archived = new ArrayList<>();
+        if (partitions == null) {
+            return archived;
+        }
+        YearMonth limit = YearMonth.from(cutoff);
+        Pattern naming = Pattern.compile(Pattern.quote(table) + "_(\\d{4})_(\\d{2})");
+        for (String partition : List.copyOf(partitions)) {
+            Matcher matcher = naming.matcher(partition);
+            if (!matcher.matches()) {
+                continue;
+            }
+            YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+            if (month.isBefore(limit)) {
+                outsideTransaction().executeWithoutResult(status ->
+                        jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition + " CONCURRENTLY"));
+                partitions.remove(partition);
+                archive(partition);
+                archived.add(partition);
+            }
+        }
+        return archived;
+    }
+
+    private void finalizePendingDetaches(String table) {
+        for (String partition : jdbcTemplate.queryForList(PARTITIONS, String.class, table, true)) {
+            outsideTransaction().executeWithoutResult(status ->
+                    jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition + " FINALIZE"));
+            attachedPartitions.get(table).remove(partition);
+            archive(partition);
+        }
+    }
+
+    private void createPartition(String table, String partition, YearMonth month) {
+        String from = month.atDay(1).toString();
+        String to = month.plusMonths(1).atDay(1).toString();
+        inNewTransaction().executeWithoutResult(status -> {
+            jdbcTemplate.execute("SET LOCAL lock_timeout = '" + lockTimeout + "'");
+            jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(hashtext(?))", partition);
+            if (jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition)) {
+                return;
+            }
+            jdbcTemplate.execute("CREATE TABLE " + partition + " (LIKE " + table + " INCLUDING DEFAULTS)");
+            jdbcTemplate.execute("ALTER TABLE " + table + " ATTACH PARTITION " + partition +
+                    " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+        });
+    }
+
+    private void archive(String partition) {
+        outsideTransaction().executeWithoutResult(status -> {
+            jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + archiveSchema);
+            jdbcTemplate.execute("ALTER TABLE " + partition + " SET SCHEMA " + archiveSchema);
+        });
+    }
+
+    private String partitionName(String table, YearMonth month) {
+        return table + "_" + month.format(SUFFIX);
+    }
+
+    private TransactionTemplate inNewTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
+    private TransactionTemplate outsideTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+        return template;
+    }
+
+    private boolean isPostgreSQL() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package br.com.senai.medicalone.config.data;
+
+import br.com.senai.medicalone.utils.PhoneticEncoder;
+import br.com.senai.medicalone.utils.TextNormalizer;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+@Component
+public class PatientNameKeysMigration implements JavaMigration {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Override
+    public MigrationVersion getVersion() {
+        return MigrationVersion.fromVersion("11");
+    }
+
+    @Override
+    public String getDescription() {
+        return "backfill patient name keys";
+    }
+
+    @Override
+    public Integer getChecksum() {
+        return null;
+    }
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return true;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        try (PreparedStatement select = connection.prepareStatement(
+                     "SELECT id, full_name FROM tb_pacients");
+             PreparedStatement update = connection.prepareStatement(
+                     "UPDATE tb_pacients SET name_key = ?, name_phonetic = ? WHERE id = ?")) {
+            select.setFetchSize(BATCH_SIZE);
+            int pending = 0;
+            try (ResultSet resultSet = select.executeQuery()) {
+                while (resultSet.next()) {
+                    String fullName = resultSet.getString("full_name");
+                    update.setString(1, TextNormalizer.normalize(fullName));
+                    update.setString(2, PhoneticEncoder.encode(fullName));
+                    update.setLong(3, resultSet.getLong("id"));
+                    update.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        update.executeBatch();
+                        pending = 0;
+                    }
+                }
+            }
+            if (pending > 0) {
+                update.executeBatch();
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package br.com.senai.medicalone.config.data;
+
+import br.com.senai.medicalone.config.cache.InvalidationBus;
+import br.com.senai.medicalone.config.datasource.ReplicaRoutingDataSource;
+import br.com.senai.medicalone.entities.patient.Patient;
+import br.com.senai.medicalone.entities.user.User;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.sql.DataSource;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+@Configuration
+@ConditionalOnProperty(name = "jpa.second-level-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheConfig {
+
+    public static final List<String> REGIONS = List.of("patients", "users");
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(Environment environment,
+                                                @Value("${jpa.second-level-cache.ttl:600000}") long ttl,
+                                                @Value("${jpa.second-level-cache.max-size:10000}") long maxSize) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("medicalone-" + UUID.randomUUID()), getClass().getClassLoader());
+        for (String region : REGIONS) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(environment.getProperty(
+                    "jpa.second-level-cache.regions." + region + ".max-size", Long.class, maxSize)));
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.MILLISECONDS.toNanos(environment.getProperty(
+                    "jpa.second-level-cache.regions." + region + ".ttl", Long.class, ttl))));
+            cacheManager.createCache(region, configuration);
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheProperties(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            properties.put(AvailableSettings.LOG_SESSION_METRICS, false);
+        };
+    }
+
+    @Bean
+    public InitializingBean secondLevelCacheInvalidation(InvalidationBus invalidationBus,
+                                                         EntityManagerFactory entityManagerFactory) {
+        return () -> {
+            Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+            invalidationBus.subscribe(InvalidationBus.PATIENT, id -> {
+                if (id == null) {
+                    cache.evictEntityData(Patient.class);
+                } else {
+                    cache.evictEntityData(Patient.class, Long.valueOf(id));
+                }
+            });
+            invalidationBus.subscribe(InvalidationBus.USER, id -> {
+                if (id == null) {
+                    cache.evictEntityData(User.class);
+                } else {
+                    cache.evictEntityData(User.class, Long.valueOf(id));
+                }
+            });
+        };
+    }
+
+    // a réplica pode estar atrasada: leituras roteadas para ela consultam o L2, mas não o alimentam
+    @Bean
+    @ConditionalOnProperty(name = "datasource.replicas.enabled", havingValue = "true")
+    public TransactionExecutionListener replicaReadsSkipSecondLevelCachePuts(DataSource dataSource,
+                                                                            EntityManagerFactory entityManagerFactory) {
+        return new TransactionExecutionListener() {
+            @Override
+            public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+                if (beginFailure != null || !transaction.isNewTransaction()
+                        || !(dataSource instanceof ReplicaRoutingDataSource routing)
+                        || !routing.routesCurrentTransactionToReplica()) {
+                    return;
+                }
+                EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+                if (entityManager != null) {
+                    entityManager.setProperty(AvailableSettings.JAKARTA_SHARED_CACHE_STORE_MODE, CacheStoreMode.BYPASS);
+                }
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        return registry -> {
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            for (String region : REGIONS) {
+                FunctionCounter.builder("cache.gets", statistics, regionStatistic(region, CacheRegionStatistics::getHitCount))
+                        .tags("cache", region, "result", "hit")
+                        .register(registry);
+                FunctionCounter.builder("cache.gets", statistics, regionStatistic(region, CacheRegionStatistics::getMissCount))
+                        .tags("cache", region, "result", "miss")
+                        .register(registry);
+                FunctionCounter.builder("cache.puts", statistics, regionStatistic(region, CacheRegionStatistics::getPutCount))
+                        .tag("cache", region)
+                        .register(registry);
+                Gauge.builder("cache.hit.ratio", statistics, regionStatistic(region, SecondLevelCacheConfig::hitRatio))
+                        .tag("cache", region)
+                        .register(registry);
+            }
+        };
+    }
+
+    private static ToDoubleFunction<Statistics> regionStatistic(String region, ToDoubleFunction<CacheRegionStatistics> value) {
+        return statistics -> {
+            CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+            return regionStatistics == null ? 0 : value.applyAsDouble(regionStatistics);
+        };
+    }
+
+    private static double hitRatio(CacheRegionStatistics statistics) {
+        long lookups = statistics.getHitCount() + statistics.getMissCount();
+        return lookups == 0 ? 0 : (double) statistics.getHitCount() / lookups;
+    }
+}
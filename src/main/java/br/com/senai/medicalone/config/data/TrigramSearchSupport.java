@@ -0,0 +1,55 @@
+package br.com.senai.medicalone.config.data;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TrigramSearchSupport implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrigramSearchSupport.class);
+
+    private static final int TRIGRAM_INDEX_COUNT = 3;
+
+    // índices criados pela migração V14; um build CONCURRENTLY interrompido deixa o índice inválido
+    private static final String VALID_TRIGRAM_INDEXES =
+            "SELECT COUNT(*) FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid " +
+            "WHERE c.relname IN ('idx_pacients_full_name_trgm', 'idx_pacients_phone_trgm', 'idx_pacients_email_trgm') " +
+            "AND i.indisvalid";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${patient.search.trigram.enabled:true}")
+    private boolean trigramEnabled;
+
+    private volatile boolean trigramSearchAvailable;
+
+    @Override
+    public void run(String... args) {
+        if (!trigramEnabled || !isPostgreSQL()) {
+            return;
+        }
+        Integer validIndexes = jdbcTemplate.queryForObject(VALID_TRIGRAM_INDEXES, Integer.class);
+        trigramSearchAvailable = validIndexes != null && validIndexes == TRIGRAM_INDEX_COUNT;
+        if (!trigramSearchAvailable) {
+            logger.warn("Busca por trigramas indisponível, usando ILIKE sem índice: {} de {} índices válidos",
+                    validIndexes, TRIGRAM_INDEX_COUNT);
+        }
+    }
+
+    public boolean isTrigramSearchAvailable() {
+        return trigramSearchAvailable;
+    }
+
+    private boolean isPostgreSQL() {
+        String databaseProductName = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        return "PostgreSQL".equalsIgnoreCase(databaseProductName);
+    }
+}
@@ -0,0 +1,64 @@
+package br.com.senai.medicalone.config.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ConsistencyTokenFilter extends OncePerRequestFilter {
+
+    public static final String TOKEN_HEADER = "X-Consistency-Token";
+    public static final String TOKEN_COOKIE = "consistency_token";
+
+    private final long window;
+
+    public ConsistencyTokenFilter(long window) {
+        this.window = window;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ReadYourWritesContext.open(readToken(request), window, token -> issueToken(response, token));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWritesContext.close();
+        }
+    }
+
+    private long readToken(HttpServletRequest request) {
+        String value = request.getHeader(TOKEN_HEADER);
+        if (value == null && request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if (TOKEN_COOKIE.equals(cookie.getName())) {
+                    value = cookie.getValue();
+                }
+            }
+        }
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private void issueToken(HttpServletResponse response, long token) {
+        response.setHeader(TOKEN_HEADER, Long.toString(token));
+        Cookie cookie = new Cookie(TOKEN_COOKIE, Long.toString(token));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, (window + 999) / 1000));
+        response.addCookie(cookie);
+    }
+}
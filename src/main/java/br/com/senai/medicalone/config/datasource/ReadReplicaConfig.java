@@ -0,0 +1,86 @@
+package br.com.senai.medicalone.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(name = "datasource.replicas.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    public static BeanPostProcessor replicaRoutingPostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource primary && !(bean instanceof ReplicaRoutingDataSource)
+                        && "dataSource".equals(beanName)) {
+                    return new ReplicaRoutingDataSource(primary, replicas(environment),
+                            environment.getProperty("datasource.replicas.retry-interval", Long.class, 30000L));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public ConsistencyTokenFilter consistencyTokenFilter(
+            @Value("${datasource.replicas.read-your-writes-window:5000}") long window) {
+        return new ConsistencyTokenFilter(window);
+    }
+
+    @Bean
+    public MeterBinder replicaRoutingMetrics(DataSource dataSource) {
+        return registry -> {
+            if (!(dataSource instanceof ReplicaRoutingDataSource routing)) {
+                return;
+            }
+            FunctionCounter.builder("datasource.routing.connections", routing, ReplicaRoutingDataSource::getPrimaryConnections)
+                    .tag("target", "primary")
+                    .register(registry);
+            for (ReplicaRoutingDataSource.Replica replica : routing.getReplicas()) {
+                FunctionCounter.builder("datasource.routing.connections", replica, ReplicaRoutingDataSource.Replica::getConnections)
+                        .tag("target", replica.getName())
+                        .register(registry);
+                Gauge.builder("datasource.replica.healthy", replica, r -> r.isHealthy() ? 1 : 0)
+                        .tag("replica", replica.getName())
+                        .register(registry);
+            }
+        };
+    }
+
+    private static Map<String, DataSource> replicas(Environment environment) {
+        String[] urls = environment.getProperty("datasource.replicas.urls", String[].class, new String[0]);
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < urls.length; i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + i);
+            replica.setJdbcUrl(urls[i].trim());
+            replica.setUsername(environment.getProperty("datasource.replicas.username",
+                    environment.getProperty("spring.datasource.username")));
+            replica.setPassword(environment.getProperty("datasource.replicas.password",
+                    environment.getProperty("spring.datasource.password")));
+            String driverClassName = environment.getProperty("spring.datasource.driver-class-name");
+            if (driverClassName != null) {
+                replica.setDriverClassName(driverClassName);
+            }
+            replica.setReadOnly(true);
+            replica.setMaximumPoolSize(environment.getProperty("datasource.replicas.pool-size", Integer.class, 10));
+            replica.setConnectionTimeout(environment.getProperty("datasource.replicas.connection-timeout", Long.class, 2000L));
+            replica.setInitializationFailTimeout(-1);
+            replicas.put(replica.getPoolName(), replica);
+        }
+        return replicas;
+    }
+}
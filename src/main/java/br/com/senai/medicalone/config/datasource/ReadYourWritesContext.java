@@ -0,0 +1,52 @@
+package br.com.senai.medicalone.config.datasource;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.LongConsumer;
+
+final class ReadYourWritesContext {
+
+    private static final ThreadLocal<ReadYourWritesContext> CURRENT = new ThreadLocal<>();
+
+    private final long window;
+    private final LongConsumer tokenIssuer;
+    private long lastWrite;
+
+    private ReadYourWritesContext(long lastWrite, long window, LongConsumer tokenIssuer) {
+        this.lastWrite = lastWrite;
+        this.window = window;
+        this.tokenIssuer = tokenIssuer;
+    }
+
+    static void open(long lastWrite, long window, LongConsumer tokenIssuer) {
+        CURRENT.set(new ReadYourWritesContext(lastWrite, window, tokenIssuer));
+    }
+
+    static void close() {
+        CURRENT.remove();
+    }
+
+    static boolean requiresPrimary() {
+        ReadYourWritesContext context = CURRENT.get();
+        if (context == null) {
+            return false;
+        }
+        long age = System.currentTimeMillis() - context.lastWrite;
+        return age >= 0 && age < context.window;
+    }
+
+    static void registerWrite() {
+        ReadYourWritesContext context = CURRENT.get();
+        if (context == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                context.lastWrite = System.currentTimeMillis();
+                context.tokenIssuer.accept(context.lastWrite);
+            }
+        });
+    }
+}
@@ -0,0 +1,150 @@
+package br.com.senai.medicalone.config.datasource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long retryInterval;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final LongAdder primaryConnections = new LongAdder();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, long retryInterval) {
+        this.primary = primary;
+        List<Replica> list = new ArrayList<>(replicas.size());
+        replicas.forEach((name, dataSource) -> list.add(new Replica(name, dataSource)));
+        this.replicas = Collections.unmodifiableList(list);
+        this.retryInterval = retryInterval;
+        setTargetDataSource(new Router());
+        afterPropertiesSet();
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    public long getPrimaryConnections() {
+        return primaryConnections.sum();
+    }
+
+    public boolean routesCurrentTransactionToReplica() {
+        return !replicas.isEmpty() && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !ReadYourWritesContext.requiresPrimary();
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (Replica replica : replicas) {
+            closeIfCloseable(replica.dataSource);
+        }
+        closeIfCloseable(primary);
+    }
+
+    private void closeIfCloseable(DataSource dataSource) throws IOException {
+        if (dataSource instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection replicaConnection() {
+        if (replicas.isEmpty()) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (replica.unavailableUntil > now) {
+                continue;
+            }
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replica.unavailableUntil = 0;
+                replica.connections.increment();
+                return connection;
+            } catch (SQLException e) {
+                replica.unavailableUntil = System.currentTimeMillis() + retryInterval;
+            }
+        }
+        return null;
+    }
+
+    private class Router extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                if (routesCurrentTransactionToReplica()) {
+                    Connection connection = replicaConnection();
+                    if (connection != null) {
+                        return connection;
+                    }
+                }
+            } else if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                ReadYourWritesContext.registerWrite();
+            }
+            primaryConnections.increment();
+            return primary.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            primaryConnections.increment();
+            return primary.getConnection(username, password);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T unwrap(Class<T> iface) throws SQLException {
+            if (iface.isInstance(this)) {
+                return (T) this;
+            }
+            return primary.unwrap(iface);
+        }
+
+        @Override
+        public boolean isWrapperFor(Class<?> iface) throws SQLException {
+            return iface.isInstance(this) || primary.isWrapperFor(iface);
+        }
+    }
+
+    public static class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private final LongAdder connections = new LongAdder();
+        private volatile long unavailableUntil;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isHealthy() {
+            return unavailableUntil <= System.currentTimeMillis();
+        }
+
+        public long getConnections() {
+            return connections.sum();
+        }
+    }
+}
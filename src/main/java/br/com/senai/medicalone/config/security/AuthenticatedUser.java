@@ -0,0 +1,61 @@
+package br.com.senai.medicalone.config.security;
+
+import br.com.senai.medicalone.entities.user.PreRegisterUser;
+import br.com.senai.medicalone.entities.user.User;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+// não implementa CredentialsContainer: a instância fica em cache e não pode ter a senha apagada após o login
+public final class AuthenticatedUser implements UserDetails {
+
+    private final Long id;
+    private final Long patientId;
+    private final String email;
+    private final String password;
+    private final List<GrantedAuthority> authorities;
+
+    public AuthenticatedUser(Long id, Long patientId, String email, String password,
+                             Collection<? extends GrantedAuthority> authorities) {
+        this.id = id;
+        this.patientId = patientId;
+        this.email = email;
+        this.password = password;
+        this.authorities = List.copyOf(authorities);
+    }
+
+    public static AuthenticatedUser of(User user) {
+        return new AuthenticatedUser(user.getId(), user.getPatientId(), user.getEmail(), user.getPassword(),
+                user.getAuthorities());
+    }
+
+    public static AuthenticatedUser of(PreRegisterUser preRegisterUser) {
+        return new AuthenticatedUser(null, null, preRegisterUser.getEmail(), preRegisterUser.getPassword(),
+                preRegisterUser.getAuthorities());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getPatientId() {
+        return patientId;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
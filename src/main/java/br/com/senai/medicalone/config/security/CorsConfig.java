@@ -1,5 +1,6 @@
 package br.com.senai.medicalone.config.security;
 
+import br.com.senai.medicalone.config.datasource.ConsistencyTokenFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.filter.CorsFilter;
@@ -15,6 +16,7 @@ public class CorsConfig {
         config.setAllowCredentials(false);
         config.addAllowedOrigin("*");
         config.addAllowedHeader("*");
+        config.addExposedHeader(ConsistencyTokenFilter.TOKEN_HEADER);
         config.addAllowedMethod("GET");
         config.addAllowedMethod("POST");
         config.addAllowedMethod("PUT");
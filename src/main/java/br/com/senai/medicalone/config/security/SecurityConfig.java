@@ -48,6 +48,7 @@ public class SecurityConfig {
                         //Prontuarios
                         .requestMatchers(HttpMethod.GET, "/api/pacientes/{id}/prontuarios").hasAnyRole("ADMIN", "MEDICO", "PACIENTE")
                         .requestMatchers(HttpMethod.GET, "/api/pacientes/prontuarios").hasAnyRole("ADMIN", "MEDICO")
+                        .requestMatchers(HttpMethod.GET, "/api/pacientes/prontuarios/exportar").hasRole("ADMIN")
 
 
                         //exames
@@ -64,16 +65,24 @@ public class SecurityConfig {
 
                         //dashboard
                         .requestMatchers(HttpMethod.GET,"/api/dashboard").hasAnyRole("ADMIN", "MEDICO")
+                        .requestMatchers(HttpMethod.GET,"/api/dashboard/series").hasAnyRole("ADMIN", "MEDICO")
+                        .requestMatchers(HttpMethod.POST,"/api/dashboard/series/reconstruir").hasRole("ADMIN")
 
                         //pacientes
+                        .requestMatchers(HttpMethod.GET, "/api/pacientes/busca").hasAnyRole("ADMIN", "MEDICO")
                         .requestMatchers(HttpMethod.GET, "/api/pacientes/{id}").hasAnyRole("ADMIN", "MEDICO", "PACIENTE")
                         .requestMatchers(HttpMethod.GET, "/api/pacientes").hasAnyRole("ADMIN", "MEDICO")
+                        .requestMatchers(HttpMethod.GET, "/api/pacientes/alergias/{substance}").hasAnyRole("ADMIN", "MEDICO")
                         .requestMatchers(HttpMethod.POST, "/api/pacientes").hasAnyRole("ADMIN", "MEDICO")
+                        .requestMatchers(HttpMethod.POST, "/api/pacientes/importar").hasAnyRole("ADMIN", "MEDICO")
                         .requestMatchers(HttpMethod.PUT, "/api/pacientes/{id}").hasAnyRole("ADMIN", "MEDICO")
                         .requestMatchers(HttpMethod.DELETE, "/api/pacientes/{id}").hasAnyRole("ADMIN", "MEDICO")
 
 
 
+                        //metricas
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                         //swagger
                         .requestMatchers("/swagger-ui/**", "/api-docs/**", "/swagger-ui.html", "/webjars/**", "/swagger-resources/**").permitAll()
                         .anyRequest().authenticated()
@@ -0,0 +1,89 @@
+package br.com.senai.medicalone.config.security;
+
+import br.com.senai.medicalone.config.cache.InvalidationBus;
+import br.com.senai.medicalone.utils.BoundedExpiringCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class UserDetailsCache {
+
+    private static final String CACHE_NAME = "userDetails";
+
+    private final BoundedExpiringCache<String, AuthenticatedUser> cache;
+    private final long ttl;
+
+    @Autowired
+    public UserDetailsCache(@Value("${security.user-details-cache.max-size:1000}") int maxSize,
+                            @Value("${security.user-details-cache.ttl:300000}") long ttl,
+                            MeterRegistry meterRegistry, InvalidationBus invalidationBus) {
+        this.cache = new BoundedExpiringCache<>(maxSize);
+        this.ttl = ttl;
+        FunctionCounter.builder("cache.gets", cache, BoundedExpiringCache::getHits)
+                .tags("cache", CACHE_NAME, "result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", cache, BoundedExpiringCache::getMisses)
+                .tags("cache", CACHE_NAME, "result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("cache.size", cache, BoundedExpiringCache::size)
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+        invalidationBus.subscribe(InvalidationBus.USER, this::evictUser);
+    }
+
+    public AuthenticatedUser get(String email) {
+        return cache.get(email);
+    }
+
+    public void put(String email, AuthenticatedUser user) {
+        cache.put(email, user, cache.currentTimeMillis() + ttl);
+    }
+
+    public void evict(String email) {
+        evict(email, null);
+    }
+
+    // uma leitura concorrente antes do commit ainda vê a linha antiga, então a remoção se repete após o commit
+    public void evict(String email, Long userId) {
+        evictNow(email, userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(email, userId);
+                }
+            });
+        }
+    }
+
+    private void evictNow(String email, Long userId) {
+        if (email != null) {
+            cache.invalidate(email);
+        }
+        if (userId != null) {
+            evictUser(String.valueOf(userId));
+        }
+    }
+
+    private void evictUser(String id) {
+        if (id == null) {
+            cache.invalidateAll();
+            return;
+        }
+        cache.invalidateIf((email, user) -> id.equals(String.valueOf(user.getId())));
+    }
+
+    public long getHits() {
+        return cache.getHits();
+    }
+
+    public long getMisses() {
+        return cache.getMisses();
+    }
+}
@@ -1,12 +1,14 @@
 package br.com.senai.medicalone.controllers.appointment;
 
+import br.com.senai.medicalone.config.security.AuthenticatedUser;
 import br.com.senai.medicalone.dtos.appointment.AppointmentRequestDTO;
 import br.com.senai.medicalone.dtos.appointment.AppointmentResponseDTO;
 import br.com.senai.medicalone.dtos.exam.ExamResponseDTO;
-import br.com.senai.medicalone.entities.user.User;
+import br.com.senai.medicalone.entities.appointment.Appointment;
 import br.com.senai.medicalone.exceptions.customexceptions.AppointmentNotFoundException;
 import br.com.senai.medicalone.exceptions.customexceptions.BadRequestException;
 import br.com.senai.medicalone.services.appointment.AppointmentService;
+import br.com.senai.medicalone.utils.KeysetCursorCodec;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -16,6 +18,7 @@ import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Window;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityModel;
@@ -41,6 +44,9 @@ public class AppointmentController {
     @Autowired
     private PagedResourcesAssembler<AppointmentResponseDTO> pagedResourcesAssembler;
 
+    @Autowired
+    private KeysetCursorCodec keysetCursorCodec;
+
 
     @PostMapping
     @Operation(summary = "Criar uma nova consulta", description = "Endpoint para criar uma nova consulta")
@@ -69,8 +75,8 @@ public class AppointmentController {
     public ResponseEntity<Map<String, Object>> getAppointmentById(@PathVariable Long id) {
         try {
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication != null && authentication.getPrincipal() instanceof User) {
-                User user = (User) authentication.getPrincipal();
+            if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser) {
+                AuthenticatedUser user = (AuthenticatedUser) authentication.getPrincipal();
                 AppointmentResponseDTO appointment = appointmentService.getAppointmentById(id);
                 if (user.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_PACIENTE"))) {
                     Long patientId = user.getPatientId();
@@ -129,18 +135,29 @@ public class AppointmentController {
             @RequestParam(required = false) String name,
             @RequestParam(required = false) Long patientId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "12") int size) {
+            @RequestParam(defaultValue = "12") int size,
+            @RequestParam(required = false) String cursor) {
         Pageable pageable = PageRequest.of(page, size);
 
 
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.getPrincipal() instanceof User) {
-            User user = (User) authentication.getPrincipal();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser) {
+            AuthenticatedUser user = (AuthenticatedUser) authentication.getPrincipal();
             if (user.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_PACIENTE"))) {
                 patientId = user.getPatientId();
             }
         }
 
+        if (cursor != null) {
+            Window<AppointmentResponseDTO> window = appointmentService.scrollAppointments(patientId,
+                    keysetCursorCodec.decode(cursor, Appointment.class), size);
+            return new ResponseEntity<>(Map.of(
+                    "message", "Consultas encontradas com sucesso",
+                    "appointments", window.getContent(),
+                    "page", keysetCursorCodec.toPage(window)
+            ), HttpStatus.OK);
+        }
+
         Page<AppointmentResponseDTO> responseDTOs = appointmentService.listAppointments(name, patientId, pageable);
         PagedModel<EntityModel<AppointmentResponseDTO>> pagedModel = pagedResourcesAssembler.toModel(responseDTOs);
         List<AppointmentResponseDTO> appointments = pagedModel.getContent().stream()
@@ -1,6 +1,9 @@
 package br.com.senai.medicalone.controllers.dashboard;
 
 import br.com.senai.medicalone.dtos.dashboard.DashboardMetricsDTO;
+import br.com.senai.medicalone.dtos.dashboard.DashboardSeriesDTO;
+import br.com.senai.medicalone.exceptions.customexceptions.BadRequestException;
+import br.com.senai.medicalone.services.dashboard.DashboardRollupService;
 import br.com.senai.medicalone.services.dashboard.DashboardService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -8,12 +11,16 @@ import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
 import java.util.Map;
 
 @RestController
@@ -23,6 +30,9 @@ public class DashboardController {
     @Autowired
     private DashboardService dashboardService;
 
+    @Autowired
+    private DashboardRollupService dashboardRollupService;
+
     @Operation(summary = "Busca todos os dados dashboard", description = "Endpoint para obter dados do dashboard")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Dados do dashboard obtidos com sucesso", content = @Content(mediaType = "application/json", examples = @ExampleObject(value = "{\"data\": {\"statistics\": {\"appointmentCount\": 4, \"userCount\": 7, \"patientCount\": 1, \"examCount\": 2}}, \"message\": \"Dados do dashboard obtidos com sucesso\"}"))),
@@ -37,4 +47,39 @@ public class DashboardController {
             return new ResponseEntity<>(Map.of("message", "Erro ao obter dados do dashboard"), HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "Busca séries temporais do dashboard", description = "Endpoint para obter contagens de exames ou consultas por dia, semana ou mês, opcionalmente agrupadas por tipo ou laboratório do exame")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Série obtida com sucesso", content = @Content(mediaType = "application/json", examples = @ExampleObject(value = "{\"message\": \"Série obtida com sucesso\", \"data\": {\"metric\": \"exams\", \"granularity\": \"week\", \"groupBy\": \"type\", \"from\": \"2024-05-01\", \"to\": \"2024-05-31\", \"points\": [{\"bucket\": \"2024-04-29\", \"key\": \"Sangue\", \"count\": 3}]}}"))),
+            @ApiResponse(responseCode = "400", description = "Parâmetros inválidos", content = @Content(mediaType = "application/json", examples = @ExampleObject(value = "{\"message\": \"Granularidade inválida: use day, week ou month\"}")))
+    })
+    @GetMapping("/series")
+    public ResponseEntity<Map<String, Object>> getDashboardSeries(
+            @RequestParam String metric,
+            @RequestParam(defaultValue = "day") String granularity,
+            @RequestParam(required = false) String groupBy,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate today = LocalDate.now();
+        LocalDate start = from != null ? from : today.withDayOfMonth(1);
+        LocalDate end = to != null ? to : today.withDayOfMonth(today.lengthOfMonth());
+        try {
+            DashboardSeriesDTO series = dashboardRollupService.getSeries(metric, granularity, groupBy, start, end);
+            return new ResponseEntity<>(Map.of("message", "Série obtida com sucesso", "data", series), HttpStatus.OK);
+        } catch (BadRequestException e) {
+            return new ResponseEntity<>(Map.of("message", e.getMessage()), HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ResponseEntity<>(Map.of("message", "Erro ao obter dados do dashboard"), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @Operation(summary = "Reconstrói as séries do dashboard", description = "Endpoint para recalcular os agregados das séries a partir de exames e consultas")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Séries reconstruídas com sucesso", content = @Content(mediaType = "application/json", examples = @ExampleObject(value = "{\"message\": \"Séries reconstruídas com sucesso\", \"rows\": 42}")))
+    })
+    @PostMapping("/series/reconstruir")
+    public ResponseEntity<Map<String, Object>> rebuildDashboardSeries() {
+        int rows = dashboardRollupService.rebuild();
+        return new ResponseEntity<>(Map.of("message", "Séries reconstruídas com sucesso", "rows", rows), HttpStatus.OK);
+    }
+}
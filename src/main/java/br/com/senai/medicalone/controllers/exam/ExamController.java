@@ -1,12 +1,14 @@
 package br.com.senai.medicalone.controllers.exam;
 
+import br.com.senai.medicalone.config.security.AuthenticatedUser;
 import br.com.senai.medicalone.dtos.exam.ExamRequestDTO;
 import br.com.senai.medicalone.dtos.exam.ExamResponseDTO;
 import br.com.senai.medicalone.dtos.user.UserResponseDTO;
-import br.com.senai.medicalone.entities.user.User;
+import br.com.senai.medicalone.entities.exam.Exam;
 import br.com.senai.medicalone.exceptions.customexceptions.BadRequestException;
 import br.com.senai.medicalone.exceptions.customexceptions.ExamNotFoundException;
 import br.com.senai.medicalone.services.exam.ExamService;
+import br.com.senai.medicalone.utils.KeysetCursorCodec;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -15,6 +17,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Window;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityModel;
@@ -39,6 +42,9 @@ public class ExamController {
     @Autowired
     private PagedResourcesAssembler<ExamResponseDTO> pagedResourcesAssembler;
 
+    @Autowired
+    private KeysetCursorCodec keysetCursorCodec;
+
     @PostMapping
     @Operation(summary = "Criar um novo exame", description = "Endpoint para criar um novo exame")
     @ApiResponses({
@@ -66,8 +72,8 @@ public class ExamController {
     public ResponseEntity<Map<String, Object>> getExamById(@PathVariable Long id) {
         try {
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication != null && authentication.getPrincipal() instanceof User) {
-                User user = (User) authentication.getPrincipal();
+            if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser) {
+                AuthenticatedUser user = (AuthenticatedUser) authentication.getPrincipal();
                 ExamResponseDTO exam = examService.getExamById(id);
                 if (user.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_PACIENTE"))) {
                     Long patientId = user.getPatientId();
@@ -124,17 +130,27 @@ public class ExamController {
             @RequestParam(required = false) String name,
             @RequestParam(required = false) Long patientId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "12") int size) {
+            @RequestParam(defaultValue = "12") int size,
+            @RequestParam(required = false) String cursor) {
         Pageable pageable = PageRequest.of(page, size);
 
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.getPrincipal() instanceof User) {
-            User user = (User) authentication.getPrincipal();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser) {
+            AuthenticatedUser user = (AuthenticatedUser) authentication.getPrincipal();
             if (user.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_PACIENTE"))) {
                 patientId = user.getPatientId();
             }
         }
 
+        if (cursor != null) {
+            Window<ExamResponseDTO> window = examService.scrollExams(name, patientId, keysetCursorCodec.decode(cursor, Exam.class), size);
+            return new ResponseEntity<>(Map.of(
+                    "message", "Exames encontrados com sucesso",
+                    "exams", window.getContent(),
+                    "page", keysetCursorCodec.toPage(window)
+            ), HttpStatus.OK);
+        }
+
         Page<ExamResponseDTO> responseDTOs = examService.listExams(name, patientId, pageable);
         PagedModel<EntityModel<ExamResponseDTO>> pagedModel = pagedResourcesAssembler.toModel(responseDTOs);
         List<ExamResponseDTO> exams = pagedModel.getContent().stream()
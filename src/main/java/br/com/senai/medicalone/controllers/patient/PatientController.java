@@ -1,33 +1,50 @@
 package br.com.senai.medicalone.controllers.patient;
 
+import br.com.senai.medicalone.config.security.AuthenticatedUser;
+import br.com.senai.medicalone.dtos.patient.PatientImportResultDTO;
 import br.com.senai.medicalone.dtos.patient.PatientRecordDTO;
 import br.com.senai.medicalone.dtos.patient.PatientRequestDTO;
 import br.com.senai.medicalone.dtos.patient.PatientResponseDTO;
-import br.com.senai.medicalone.entities.user.User;
+import br.com.senai.medicalone.dtos.patient.PatientSearchFilterDTO;
+import br.com.senai.medicalone.dtos.patient.PatientSearchResultDTO;
+import br.com.senai.medicalone.dtos.patient.PatientSummaryDTO;
+import br.com.senai.medicalone.entities.patient.Patient;
+import br.com.senai.medicalone.exceptions.customexceptions.BadRequestException;
 import br.com.senai.medicalone.exceptions.customexceptions.PatientAlreadyExistsException;
 import br.com.senai.medicalone.exceptions.customexceptions.PatientHasLinkedRecordsException;
 import br.com.senai.medicalone.exceptions.customexceptions.PatientNotFoundException;
+import br.com.senai.medicalone.services.patient.PatientImportService;
 import br.com.senai.medicalone.services.patient.PatientRecordService;
+import br.com.senai.medicalone.services.patient.PatientSearchService;
 import br.com.senai.medicalone.services.patient.PatientService;
+import br.com.senai.medicalone.utils.KeysetCursorCodec;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -44,7 +61,16 @@ public class PatientController {
     private PatientRecordService patientRecordService;
 
     @Autowired
-    private PagedResourcesAssembler<PatientResponseDTO> pagedResourcesAssembler;
+    private PatientImportService patientImportService;
+
+    @Autowired
+    private PatientSearchService patientSearchService;
+
+    @Autowired
+    private PagedResourcesAssembler<PatientSummaryDTO> pagedResourcesAssembler;
+
+    @Autowired
+    private KeysetCursorCodec keysetCursorCodec;
 
     @PostMapping
     @Operation(summary = "Cria um paciente", description = "Endpoint para criar um novo paciente")
@@ -64,6 +90,17 @@ public class PatientController {
         }
     }
 
+    @PostMapping(value = "/importar", consumes = {"text/csv", MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Importa pacientes em lote", description = "Endpoint para importar pacientes de um arquivo CSV (com cabeçalho, listas separadas por ';') ou de um array JSON, informando o resultado de cada registro")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Importação concluída", content = @Content(mediaType = "application/json", examples = @ExampleObject(value = "{\"message\": \"Importação concluída\", \"result\": {\"accepted\": 1, \"rejected\": 1, \"rows\": [{\"row\": 1, \"status\": \"ACEITO\", \"patientId\": 10}, {\"row\": 2, \"status\": \"REJEITADO\", \"reason\": \"CPF já cadastrado\"}]}}"))),
+            @ApiResponse(responseCode = "415", description = "Formato de arquivo não suportado")
+    })
+    public ResponseEntity<Map<String, Object>> importPatients(HttpServletRequest request) throws IOException {
+        PatientImportResultDTO result = patientImportService.importPatients(request.getInputStream(), request.getContentType());
+        return new ResponseEntity<>(Map.of("message", "Importação concluída", "result", result), HttpStatus.OK);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Busca paciente por ID", description = "Endpoint para obter um paciente pelo ID")
     @ApiResponses({
@@ -119,17 +156,27 @@ public class PatientController {
     @GetMapping
     @Operation(summary = "Busca todos os pacientes", description = "Endpoint para obter todos os pacientes")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Pacientes encontrados com sucesso", content = @Content(mediaType = "application/json", examples = @ExampleObject(value = "{\"message\": \"Pacientes encontrados com sucesso\", \"patients\": [{\"id\": 1, \"name\": \"John Doe\", \"cpf\": \"123.456.789-00\", \"phone\": \"(99) 9 9999-9999\"}]}")))
+            @ApiResponse(responseCode = "200", description = "Pacientes encontrados com sucesso", content = @Content(mediaType = "application/json", examples = @ExampleObject(value = "{\"message\": \"Pacientes encontrados com sucesso\", \"patients\": [{\"id\": 1, \"fullName\": \"John Doe\", \"cpf\": \"12345678900\", \"phone\": \"99999999999\", \"email\": \"johndoe@example.com\", \"healthInsurance\": \"Unimed\"}]}")))
     })
     public ResponseEntity<Map<String, Object>> getAllPatients(
             @RequestParam(required = false) String searchTerm,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "12") int size) {
+            @RequestParam(defaultValue = "12") int size,
+            @RequestParam(required = false) String cursor) {
+        if (cursor != null) {
+            Window<PatientSummaryDTO> window = patientService.scrollPatientsFiltered(searchTerm,
+                    keysetCursorCodec.decode(cursor, Patient.class), size);
+            return new ResponseEntity<>(Map.of(
+                    "message", "Pacientes encontrados com sucesso",
+                    "patients", window.getContent(),
+                    "page", keysetCursorCodec.toPage(window)
+            ), HttpStatus.OK);
+        }
         Pageable pageable = PageRequest.of(page, size);
-        Page<PatientResponseDTO> responseDTOs = patientService.getAllPatientsFiltered(searchTerm,pageable);
-        PagedModel<EntityModel<PatientResponseDTO>> pagedModel = pagedResourcesAssembler.toModel(responseDTOs);
+        Page<PatientSummaryDTO> responseDTOs = patientService.getAllPatientsFiltered(searchTerm,pageable);
+        PagedModel<EntityModel<PatientSummaryDTO>> pagedModel = pagedResourcesAssembler.toModel(responseDTOs);
 
-        List<PatientResponseDTO> patients = pagedModel.getContent().stream()
+        List<PatientSummaryDTO> patients = pagedModel.getContent().stream()
                                                     .map(EntityModel::getContent)
                                                     .collect(Collectors.toList());
 
@@ -163,19 +210,23 @@ public class PatientController {
     }
 
     @GetMapping("/nome/{name}")
-    @Operation(summary = "Busca paciente por nome", description = "Endpoint para obter pacientes pelo nome")
+    @Operation(summary = "Busca paciente por nome", description = "Endpoint para obter pacientes pelo nome. O modo contains busca o trecho no nome; normalized e phonetic buscam pelo prefixo do nome sem acentos ou da sua chave fonética")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Pacientes encontrados com sucesso", content = @Content(mediaType = "application/json", examples = @ExampleObject(value = "{\"message\": \"Pacientes encontrados com sucesso\", \"patients\": [{\"id\": 1, \"name\": \"John Doe\", \"cpf\": \"123.456.789-00\", \"phone\": \"(99) 9 9999-9999\"}]}"))),
+            @ApiResponse(responseCode = "400", description = "Modo de busca inválido", content = @Content(mediaType = "application/json", examples = @ExampleObject(value = "{\"message\": \"Modo de busca inválido: use contains, normalized ou phonetic\"}"))),
             @ApiResponse(responseCode = "404", description = "Pacientes não encontrados", content = @Content(mediaType = "application/json", examples = @ExampleObject(value = "{\"message\": \"Pacientes não encontrados\"}")))
     })
-    public ResponseEntity<Map<String, Object>> getPatientsByName(@PathVariable("name") String name) {
+    public ResponseEntity<Map<String, Object>> getPatientsByName(@PathVariable("name") String name,
+                                                                 @RequestParam(defaultValue = PatientService.NAME_MODE_CONTAINS) String mode) {
         try {
             String decodedName = java.net.URLDecoder.decode(name, "UTF-8");
-            List<PatientResponseDTO> responseDTOs = patientService.getPatientsByName(decodedName);
+            List<PatientResponseDTO> responseDTOs = patientService.getPatientsByName(decodedName, mode);
             if (responseDTOs.isEmpty()) {
                 return new ResponseEntity<>(Map.of("message", "Pacientes não encontrados"), HttpStatus.NOT_FOUND);
             }
             return new ResponseEntity<>(Map.of("message", "Pacientes encontrados com sucesso", "patients", responseDTOs), HttpStatus.OK);
+        } catch (BadRequestException e) {
+            return new ResponseEntity<>(Map.of("message", e.getMessage()), HttpStatus.BAD_REQUEST);
         } catch (Exception e) {
             return new ResponseEntity<>(Map.of("message", "Pacientes não encontrados"), HttpStatus.NOT_FOUND);
         }
@@ -211,6 +262,55 @@ public class PatientController {
         }
     }
 
+    @GetMapping("/alergias/{substance}")
+    @Operation(summary = "Busca pacientes por alergia", description = "Endpoint para obter os pacientes alérgicos a uma substância, ignorando acentos e maiúsculas")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Pacientes encontrados com sucesso", content = @Content(mediaType = "application/json", examples = @ExampleObject(value = "{\"message\": \"Pacientes encontrados com sucesso\", \"patients\": [{\"id\": 1, \"fullName\": \"John Doe\", \"cpf\": \"12345678900\", \"phone\": \"99999999999\", \"email\": \"johndoe@example.com\", \"healthInsurance\": \"Unimed\"}], \"page\": {\"size\": 12, \"totalElements\": 1, \"totalPages\": 1, \"number\": 0}}"))),
+            @ApiResponse(responseCode = "400", description = "Substância não informada", content = @Content(mediaType = "application/json", examples = @ExampleObject(value = "{\"message\": \"Substância é obrigatória\"}")))
+    })
+    public ResponseEntity<Map<String, Object>> getPatientsByAllergy(
+            @PathVariable String substance,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "12") int size) {
+        Page<PatientSummaryDTO> patients = patientService.getPatientsByAllergy(substance,
+                PageRequest.of(page, size, Sort.by("fullName", "id")));
+        return new ResponseEntity<>(Map.of(
+                "message", "Pacientes encontrados com sucesso",
+                "patients", patients.getContent(),
+                "page", Map.of(
+                        "size", patients.getSize(),
+                        "totalElements", patients.getTotalElements(),
+                        "totalPages", patients.getTotalPages(),
+                        "number", patients.getNumber()
+                )
+        ), HttpStatus.OK);
+    }
+
+    @GetMapping("/busca")
+    @Operation(summary = "Busca facetada de pacientes", description = "Endpoint para filtrar pacientes por termo, cidade, estado, convênio, gênero e validade do convênio, retornando as contagens por faceta")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Pacientes encontrados com sucesso", content = @Content(mediaType = "application/json", examples = @ExampleObject(value = "{\"message\": \"Pacientes encontrados com sucesso\", \"patients\": [{\"id\": 1, \"fullName\": \"John Doe\", \"cpf\": \"12345678900\", \"phone\": \"99999999999\", \"email\": \"johndoe@example.com\", \"healthInsurance\": \"Unimed\"}], \"facets\": {\"city\": [{\"value\": \"São Paulo\", \"count\": 1}], \"state\": [{\"value\": \"SP\", \"count\": 1}], \"healthInsurance\": [{\"value\": \"Unimed\", \"count\": 1}], \"gender\": [{\"value\": \"Masculino\", \"count\": 1}], \"insuranceValidity\": [{\"value\": \"vigente\", \"count\": 1}]}, \"page\": {\"size\": 12, \"totalElements\": 1, \"totalPages\": 1, \"number\": 0}}"))),
+            @ApiResponse(responseCode = "400", description = "Filtro inválido", content = @Content(mediaType = "application/json", examples = @ExampleObject(value = "{\"message\": \"Situação do convênio inválida: use vigente, vencido ou sem_validade\"}")))
+    })
+    public ResponseEntity<Map<String, Object>> searchPatients(
+            PatientSearchFilterDTO filter,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "12") int size) {
+        PatientSearchResultDTO result = patientSearchService.search(filter, PageRequest.of(page, size));
+        Page<PatientSummaryDTO> patients = result.getPatients();
+        return new ResponseEntity<>(Map.of(
+                "message", "Pacientes encontrados com sucesso",
+                "patients", patients.getContent(),
+                "facets", result.getFacets(),
+                "page", Map.of(
+                        "size", patients.getSize(),
+                        "totalElements", patients.getTotalElements(),
+                        "totalPages", patients.getTotalPages(),
+                        "number", patients.getNumber()
+                )
+        ), HttpStatus.OK);
+    }
+
     @GetMapping("/prontuarios")
     @Operation(summary = "Busca todos os prontuarios", description = "Endpoint para obter todos os prontuários de pacientes")
     @ApiResponses({
@@ -226,6 +326,19 @@ public class PatientController {
         return new ResponseEntity<>(Map.of("message", "Prontuários encontrados com sucesso", "records", records), HttpStatus.OK);
     }
 
+    @GetMapping(value = "/prontuarios/exportar", produces = "application/x-ndjson")
+    @Operation(summary = "Exporta todos os prontuarios", description = "Endpoint para exportar todos os prontuários de pacientes em NDJSON, um prontuário por linha")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Prontuários exportados com sucesso", content = @Content(mediaType = "application/x-ndjson", examples = @ExampleObject(value = "{\"patient\": {\"id\": 1, \"fullName\": \"John Doe\"}, \"exams\": [...], \"appointments\": [...]}"))),
+            @ApiResponse(responseCode = "403", description = "Acesso restrito a administradores")
+    })
+    public void exportPatientRecords(HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"prontuarios.ndjson\"");
+        patientRecordService.exportPatientRecords(response.getOutputStream());
+    }
+
     @GetMapping("/{id}/prontuarios")
     @Operation(summary = "Busca prontuario de um paciente ID", description = "Endpoint para obter um prontuário de paciente")
     @ApiResponses({
@@ -236,8 +349,8 @@ public class PatientController {
     public ResponseEntity<Map<String, Object>> getPatientRecord(@PathVariable Long id) {
         try {
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication != null && authentication.getPrincipal() instanceof User) {
-                User user = (User) authentication.getPrincipal();
+            if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser) {
+                AuthenticatedUser user = (AuthenticatedUser) authentication.getPrincipal();
                 if (user.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_PACIENTE"))) {
                     Long patientId = user.getPatientId();
                     if (!id.equals(patientId)) {
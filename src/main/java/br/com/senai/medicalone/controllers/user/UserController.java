@@ -7,11 +7,13 @@ import br.com.senai.medicalone.dtos.user.UserResponseDTO;
 import br.com.senai.medicalone.dtos.user.UserUpdateRequestDTO;
 import br.com.senai.medicalone.entities.user.PreRegisterUser;
 import br.com.senai.medicalone.entities.user.RoleType;
+import br.com.senai.medicalone.entities.user.User;
 import br.com.senai.medicalone.exceptions.customexceptions.BadRequestException;
 import br.com.senai.medicalone.exceptions.customexceptions.DataConflictException;
 import br.com.senai.medicalone.exceptions.customexceptions.UnauthorizedException;
 import br.com.senai.medicalone.exceptions.customexceptions.UserNotFoundException;
 import br.com.senai.medicalone.services.user.UserService;
+import br.com.senai.medicalone.utils.KeysetCursorCodec;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -22,6 +24,7 @@ import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Window;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
@@ -45,6 +48,9 @@ public class UserController {
     @Autowired
     private PagedResourcesAssembler<UserResponseDTO> pagedResourcesAssembler;
 
+    @Autowired
+    private KeysetCursorCodec keysetCursorCodec;
+
     @PostMapping("/pre-registro")
     @Operation(summary = "Pre registro de um usuario", description = "Endpoint para pré-registrar um usuário")
     @ApiResponses({
@@ -141,7 +147,17 @@ public class UserController {
             @RequestParam(defaultValue = "12") int size,
             @RequestParam(required = false) Long id,
             @RequestParam(required = false) String name,
-            @RequestParam(required = false) String email) {
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String cursor) {
+
+        if (cursor != null) {
+            Window<UserResponseDTO> window = userService.scrollUsers(keysetCursorCodec.decode(cursor, User.class), size, id, name, email);
+            return new ResponseEntity<>(Map.of(
+                    "message", "Usuários encontrados com sucesso",
+                    "users", window.getContent(),
+                    "page", keysetCursorCodec.toPage(window)
+            ), HttpStatus.OK);
+        }
 
         Page<UserResponseDTO> usersPage = userService.findAllUsers(PageRequest.of(page, size), id, name, email);
         PagedModel<EntityModel<UserResponseDTO>> pagedModel = pagedResourcesAssembler.toModel(usersPage);
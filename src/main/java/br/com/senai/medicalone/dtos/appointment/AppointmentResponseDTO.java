@@ -1,10 +1,12 @@
 package br.com.senai.medicalone.dtos.appointment;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.List;
 
 @Data
 @Schema(description = "DTO para respostas de consultas")
@@ -33,4 +35,8 @@ public class AppointmentResponseDTO {
 
     @Schema(description = "ID do paciente associado ao agendamento", example = "1")
     private Long patientId;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Alergias do paciente que conflitam com a medicação prescrita, informadas apenas na criação e na atualização", example = "[\"Dipirona\"]")
+    private List<String> allergyConflicts;
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package br.com.senai.medicalone.dtos.dashboard;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Schema(description = "DTO que representa uma série temporal agregada do dashboard")
+public class DashboardSeriesDTO {
+
+    @Schema(description = "Métrica consultada", example = "exams", allowableValues = {"exams", "appointments"})
+    private String metric;
+
+    @Schema(description = "Granularidade dos períodos", example = "week", allowableValues = {"day", "week", "month"})
+    private String granularity;
+
+    @Schema(description = "Dimensão de agrupamento", example = "type", allowableValues = {"type", "laboratory"})
+    private String groupBy;
+
+    @Schema(description = "Data inicial do intervalo", example = "2024-05-01")
+    private LocalDate from;
+
+    @Schema(description = "Data final do intervalo", example = "2024-05-31")
+    private LocalDate to;
+
+    @Schema(description = "Pontos da série, ordenados por período e valor da dimensão")
+    private List<DashboardSeriesPointDTO> points;
+}
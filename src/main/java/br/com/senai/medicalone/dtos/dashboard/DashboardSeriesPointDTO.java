@@ -0,0 +1,24 @@
+package br.com.senai.medicalone.dtos.dashboard;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO que representa um ponto da série temporal do dashboard")
+public class DashboardSeriesPointDTO {
+
+    @Schema(description = "Início do período (dia, segunda-feira da semana ou primeiro dia do mês)", example = "2024-05-06")
+    private LocalDate bucket;
+
+    @Schema(description = "Valor da dimensão agrupada, ausente quando não há agrupamento", example = "Sangue")
+    private String key;
+
+    @Schema(description = "Quantidade no período", example = "3")
+    private long count;
+}
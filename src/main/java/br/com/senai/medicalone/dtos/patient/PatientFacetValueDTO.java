@@ -0,0 +1,19 @@
+package br.com.senai.medicalone.dtos.patient;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Contagem de pacientes para um valor de faceta")
+public class PatientFacetValueDTO {
+
+    @Schema(description = "Valor da faceta", example = "São Paulo")
+    private String value;
+
+    @Schema(description = "Quantidade de pacientes com o valor", example = "42")
+    private long count;
+}
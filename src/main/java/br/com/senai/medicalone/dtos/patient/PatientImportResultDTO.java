@@ -0,0 +1,34 @@
+package br.com.senai.medicalone.dtos.patient;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Schema(description = "DTO com o relatório da importação em lote de pacientes")
+public class PatientImportResultDTO {
+
+    public static final String ACCEPTED = "ACEITO";
+    public static final String REJECTED = "REJEITADO";
+
+    @Schema(description = "Quantidade de registros aceitos", example = "10")
+    private int accepted;
+
+    @Schema(description = "Quantidade de registros rejeitados", example = "2")
+    private int rejected;
+
+    @Schema(description = "Resultado de cada registro do arquivo")
+    private List<PatientImportRowDTO> rows = new ArrayList<>();
+
+    public void accept(int row, Long patientId) {
+        rows.add(new PatientImportRowDTO(row, ACCEPTED, null, patientId));
+        accepted++;
+    }
+
+    public void reject(int row, String reason) {
+        rows.add(new PatientImportRowDTO(row, REJECTED, reason, null));
+        rejected++;
+    }
+}
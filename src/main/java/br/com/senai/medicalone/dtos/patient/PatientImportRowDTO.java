@@ -0,0 +1,25 @@
+package br.com.senai.medicalone.dtos.patient;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO com o resultado da importação de uma linha do arquivo de pacientes")
+public class PatientImportRowDTO {
+
+    @Schema(description = "Posição do registro no arquivo, sem contar o cabeçalho", example = "1")
+    private int row;
+
+    @Schema(description = "Situação do registro", example = "ACEITO", allowableValues = {"ACEITO", "REJEITADO"})
+    private String status;
+
+    @Schema(description = "Motivo da rejeição", example = "CPF já cadastrado")
+    private String reason;
+
+    @Schema(description = "ID do paciente criado", example = "1")
+    private Long patientId;
+}
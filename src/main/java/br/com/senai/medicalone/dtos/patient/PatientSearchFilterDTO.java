@@ -0,0 +1,31 @@
+package br.com.senai.medicalone.dtos.patient;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Filtros da busca facetada de pacientes")
+public class PatientSearchFilterDTO {
+
+    @Schema(description = "Termo livre buscado no nome, telefone e email", example = "John")
+    private String searchTerm;
+
+    @Schema(description = "Cidade do paciente", example = "São Paulo")
+    private String city;
+
+    @Schema(description = "Estado do paciente", example = "SP")
+    private String state;
+
+    @Schema(description = "Convênio do paciente", example = "Unimed")
+    private String healthInsurance;
+
+    @Schema(description = "Gênero do paciente", example = "Masculino")
+    private String gender;
+
+    @Schema(description = "Situação da validade do convênio", example = "vigente", allowableValues = {"vigente", "vencido", "sem_validade"})
+    private String insuranceValidity;
+}
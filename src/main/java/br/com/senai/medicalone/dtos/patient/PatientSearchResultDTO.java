@@ -0,0 +1,23 @@
+package br.com.senai.medicalone.dtos.patient;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultado da busca facetada de pacientes")
+public class PatientSearchResultDTO {
+
+    @Schema(description = "Página de pacientes que atendem aos filtros")
+    private Page<PatientSummaryDTO> patients;
+
+    @Schema(description = "Contagens por valor de cada faceta")
+    private Map<String, List<PatientFacetValueDTO>> facets;
+}
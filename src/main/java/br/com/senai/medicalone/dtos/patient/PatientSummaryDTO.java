@@ -0,0 +1,31 @@
+package br.com.senai.medicalone.dtos.patient;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO resumido de paciente usado nas listagens")
+public class PatientSummaryDTO {
+
+    @Schema(description = "ID do paciente", example = "1")
+    private Long id;
+
+    @Schema(description = "Nome completo do paciente", example = "John Doe")
+    private String fullName;
+
+    @Schema(description = "CPF do paciente", example = "12345678900")
+    private String cpf;
+
+    @Schema(description = "Telefone do paciente", example = "99999999999")
+    private String phone;
+
+    @Schema(description = "Email do paciente", example = "johndoe@example.com")
+    private String email;
+
+    @Schema(description = "Convênio do paciente", example = "Unimed")
+    private String healthInsurance;
+}
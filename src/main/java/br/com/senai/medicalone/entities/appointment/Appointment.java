@@ -1,5 +1,6 @@
 package br.com.senai.medicalone.entities.appointment;
 
+import br.com.senai.medicalone.services.dashboard.DashboardCounterListener;
 import br.com.senai.medicalone.entities.patient.Patient;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
@@ -11,6 +12,7 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 
 @Entity
+@EntityListeners(DashboardCounterListener.class)
 @Table(name = "tb_appointments")
 @Data
 @NoArgsConstructor
@@ -18,7 +20,8 @@ import java.time.LocalTime;
 public class Appointment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "appointment_seq")
+    @SequenceGenerator(name = "appointment_seq", sequenceName = "tb_appointments_seq", allocationSize = 50)
     @Schema(description = "ID da consulta", example = "1")
     private Long id;
 
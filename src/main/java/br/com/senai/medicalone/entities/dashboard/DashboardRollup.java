@@ -0,0 +1,26 @@
+package br.com.senai.medicalone.entities.dashboard;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "tb_dashboard_rollups")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Entidade que representa a contagem diária de exames ou consultas por dimensão")
+public class DashboardRollup {
+
+    @EmbeddedId
+    private DashboardRollupId id;
+
+    @Column(name = "total", nullable = false)
+    @Schema(description = "Quantidade de registros no dia", example = "3")
+    private long total;
+}
@@ -0,0 +1,35 @@
+package br.com.senai.medicalone.entities.dashboard;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Chave de um agregado do dashboard: métrica, dia, dimensão e valor da dimensão")
+public class DashboardRollupId implements Serializable {
+
+    @Column(name = "metric", nullable = false, length = 20)
+    @Schema(description = "Métrica agregada", example = "exams")
+    private String metric;
+
+    @Column(name = "bucket_date", nullable = false)
+    @Schema(description = "Dia agregado", example = "2024-05-10")
+    private LocalDate bucketDate;
+
+    @Column(name = "dimension", nullable = false, length = 20)
+    @Schema(description = "Dimensão agregada", example = "type")
+    private String dimension;
+
+    @Column(name = "dimension_value", nullable = false, length = 255)
+    @Schema(description = "Valor da dimensão", example = "Sangue")
+    private String dimensionValue;
+}
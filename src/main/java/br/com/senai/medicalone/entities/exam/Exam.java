@@ -1,5 +1,6 @@
 package br.com.senai.medicalone.entities.exam;
 
+import br.com.senai.medicalone.services.dashboard.DashboardCounterListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
@@ -12,6 +13,7 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 
 @Entity
+@EntityListeners(DashboardCounterListener.class)
 @Table(name = "tb_exams")
 @Data
 @NoArgsConstructor
@@ -20,7 +22,8 @@ import java.time.LocalTime;
 public class Exam {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "exam_seq")
+    @SequenceGenerator(name = "exam_seq", sequenceName = "tb_exams_seq", allocationSize = 50)
     @Schema(description = "ID do exame", example = "1")
     private Long id;
 
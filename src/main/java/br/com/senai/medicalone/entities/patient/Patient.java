@@ -1,11 +1,18 @@
 package br.com.senai.medicalone.entities.patient;
 
+import br.com.senai.medicalone.services.dashboard.DashboardCounterListener;
 import br.com.senai.medicalone.entities.appointment.Appointment;
 import br.com.senai.medicalone.entities.exam.Exam;
 import br.com.senai.medicalone.entities.user.User;
+import br.com.senai.medicalone.utils.PhoneticEncoder;
+import br.com.senai.medicalone.utils.TextNormalizer;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import io.swagger.v3.oas.annotations.media.Schema;
 import org.springframework.format.annotation.DateTimeFormat;
 
@@ -14,7 +21,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(DashboardCounterListener.class)
 @Table(name = "tb_pacients")
+@NamedEntityGraph(name = "Patient.deleteCheck", attributeNodes = @NamedAttributeNode("user"))
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "patients")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -23,7 +33,8 @@ import java.util.List;
 public class Patient {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "patient_seq")
+    @SequenceGenerator(name = "patient_seq", sequenceName = "tb_pacients_seq", allocationSize = 50)
     @Schema(description = "ID do paciente", example = "1")
     private Long id;
 
@@ -33,6 +44,14 @@ public class Patient {
     @Schema(description = "Nome completo do paciente", example = "John Doe")
     private String fullName;
 
+    @Column(name = "name_key", length = 64)
+    @Schema(description = "Nome normalizado (sem acentos, em minúsculas) usado na busca por nome")
+    private String nameKey;
+
+    @Column(name = "name_phonetic", length = 64)
+    @Schema(description = "Chave fonética do nome usada na busca por nome")
+    private String namePhonetic;
+
     @NotBlank
     @Column(nullable = false)
     @Schema(description = "Gênero do paciente", example = "Masculino")
@@ -90,15 +109,18 @@ public class Patient {
     @Schema(description = "Contato de emergência do paciente", example = "99999999999")
     private String emergencyContact;
 
-    @ElementCollection
-    @CollectionTable(name = "tb_patient_allergies", joinColumns = @JoinColumn(name = "patient_id"))
-    @Column(name = "allergy")
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "allergies")
     @NotEmpty
     @Schema(description = "Lista de alergias do paciente")
     private List<String> allergies;
 
-    @ElementCollection
-    @CollectionTable(name = "tb_patient_specific_care", joinColumns = @JoinColumn(name = "patient_id"))
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "allergy_terms")
+    @Schema(description = "Alergias normalizadas (sem acentos, em minúsculas) usadas na busca por alergia")
+    private List<String> allergyTerms;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
     @Column(name = "specific_care")
     @Schema(description = "Lista de cuidados específicos do paciente")
     private List<String> specificCare;
@@ -157,7 +179,7 @@ public class Patient {
     @Schema(description = "Lista de consultas do paciente")
     private List<Appointment> appointments = new ArrayList<>();
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
@@ -171,6 +193,9 @@ public class Patient {
         this.healthInsuranceNumber = cleanString(this.healthInsuranceNumber);
         this.rg = cleanString(this.rg);
         this.zipCode = cleanString(this.zipCode);
+        this.allergyTerms = TextNormalizer.normalizeAll(this.allergies);
+        this.nameKey = TextNormalizer.normalize(this.fullName);
+        this.namePhonetic = PhoneticEncoder.encode(this.fullName);
     }
 
     @Schema(description = "Método para limpar uma string, removendo todos os caracteres não numéricos")
@@ -22,7 +22,8 @@ import java.util.Collections;
 public class PreRegisterUser implements UserDetails {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pre_register_user_seq")
+    @SequenceGenerator(name = "pre_register_user_seq", sequenceName = "tb_pre_register_users_seq", allocationSize = 50)
     @Schema(description = "ID do usuário", example = "1")
     private Long id;
 
@@ -1,10 +1,13 @@
 package br.com.senai.medicalone.entities.user;
 
+import br.com.senai.medicalone.services.dashboard.DashboardCounterListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -18,7 +21,9 @@ import java.util.Collections;
 import java.util.List;
 
 @Entity
+@EntityListeners(DashboardCounterListener.class)
 @Table(name = "tb_users")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -26,7 +31,8 @@ import java.util.List;
 public class User implements UserDetails {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "tb_users_seq", allocationSize = 50)
     @Schema(description = "ID do usuário", example = "1")
     private Long id;
 
@@ -3,21 +3,44 @@ package br.com.senai.medicalone.mappers.appointment;
 import br.com.senai.medicalone.dtos.appointment.AppointmentRequestDTO;
 import br.com.senai.medicalone.dtos.appointment.AppointmentResponseDTO;
 import br.com.senai.medicalone.entities.appointment.Appointment;
-import org.modelmapper.ModelMapper;
-import org.springframework.beans.factory.annotation.Autowired;
+import br.com.senai.medicalone.entities.patient.Patient;
 import org.springframework.stereotype.Component;
 
 @Component
 public class AppointmentMapper {
 
-    @Autowired
-    private ModelMapper modelMapper;
-
     public Appointment toEntity(AppointmentRequestDTO dto) {
-        return modelMapper.map(dto, Appointment.class);
+        if (dto == null) {
+            return null;
+        }
+        Appointment entity = new Appointment();
+        entity.setAppointmentReason(dto.getAppointmentReason());
+        entity.setAppointmentDate(dto.getAppointmentDate());
+        entity.setAppointmentTime(dto.getAppointmentTime());
+        entity.setProblemDescription(dto.getProblemDescription());
+        entity.setPrescribedMedication(dto.getPrescribedMedication());
+        entity.setObservations(dto.getObservations());
+        if (dto.getPatientId() != null) {
+            Patient patient = new Patient();
+            patient.setId(dto.getPatientId());
+            entity.setPatient(patient);
+        }
+        return entity;
     }
 
     public AppointmentResponseDTO toResponseDTO(Appointment entity) {
-        return modelMapper.map(entity, AppointmentResponseDTO.class);
+        if (entity == null) {
+            return null;
+        }
+        AppointmentResponseDTO dto = new AppointmentResponseDTO();
+        dto.setId(entity.getId());
+        dto.setAppointmentReason(entity.getAppointmentReason());
+        dto.setAppointmentDate(entity.getAppointmentDate());
+        dto.setAppointmentTime(entity.getAppointmentTime());
+        dto.setProblemDescription(entity.getProblemDescription());
+        dto.setPrescribedMedication(entity.getPrescribedMedication());
+        dto.setObservations(entity.getObservations());
+        dto.setPatientId(entity.getPatient() != null ? entity.getPatient().getId() : null);
+        return dto;
     }
-}
\ No newline at end of file
+}
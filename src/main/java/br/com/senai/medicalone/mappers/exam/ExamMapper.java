@@ -3,21 +3,46 @@ package br.com.senai.medicalone.mappers.exam;
 import br.com.senai.medicalone.dtos.exam.ExamRequestDTO;
 import br.com.senai.medicalone.dtos.exam.ExamResponseDTO;
 import br.com.senai.medicalone.entities.exam.Exam;
-import org.modelmapper.ModelMapper;
-import org.springframework.beans.factory.annotation.Autowired;
+import br.com.senai.medicalone.entities.patient.Patient;
 import org.springframework.stereotype.Component;
 
 @Component
 public class ExamMapper {
 
-    @Autowired
-    private ModelMapper modelMapper;
-
     public Exam toEntity(ExamRequestDTO dto) {
-        return modelMapper.map(dto, Exam.class);
+        if (dto == null) {
+            return null;
+        }
+        Exam entity = new Exam();
+        entity.setName(dto.getName());
+        entity.setExamDate(dto.getExamDate());
+        entity.setExamTime(dto.getExamTime());
+        entity.setType(dto.getType());
+        entity.setLaboratory(dto.getLaboratory());
+        entity.setDocumentUrl(dto.getDocumentUrl());
+        entity.setResults(dto.getResults());
+        if (dto.getPatientId() != null) {
+            Patient patient = new Patient();
+            patient.setId(dto.getPatientId());
+            entity.setPatient(patient);
+        }
+        return entity;
     }
 
     public ExamResponseDTO toResponseDTO(Exam entity) {
-        return modelMapper.map(entity, ExamResponseDTO.class);
+        if (entity == null) {
+            return null;
+        }
+        ExamResponseDTO dto = new ExamResponseDTO();
+        dto.setId(entity.getId());
+        dto.setName(entity.getName());
+        dto.setExamDate(entity.getExamDate());
+        dto.setExamTime(entity.getExamTime());
+        dto.setType(entity.getType());
+        dto.setLaboratory(entity.getLaboratory());
+        dto.setDocumentUrl(entity.getDocumentUrl());
+        dto.setResults(entity.getResults());
+        dto.setPatientId(entity.getPatient() != null ? entity.getPatient().getId() : null);
+        return dto;
     }
-}
\ No newline at end of file
+}
@@ -3,21 +3,84 @@ package br.com.senai.medicalone.mappers.patient;
 import br.com.senai.medicalone.dtos.patient.PatientRequestDTO;
 import br.com.senai.medicalone.dtos.patient.PatientResponseDTO;
 import br.com.senai.medicalone.entities.patient.Patient;
-import org.modelmapper.ModelMapper;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Component
 public class PatientMapper {
 
-    @Autowired
-    private ModelMapper modelMapper;
-
     public Patient toEntity(PatientRequestDTO dto) {
-        return modelMapper.map(dto, Patient.class);
+        if (dto == null) {
+            return null;
+        }
+        Patient entity = new Patient();
+        updateEntity(dto, entity);
+        return entity;
+    }
+
+    public void updateEntity(PatientRequestDTO dto, Patient entity) {
+        entity.setFullName(dto.getFullName());
+        entity.setGender(dto.getGender());
+        entity.setBirthDate(dto.getBirthDate());
+        entity.setCpf(dto.getCpf());
+        entity.setRg(dto.getRg());
+        entity.setRgIssuer(dto.getRgIssuer());
+        entity.setMaritalStatus(dto.getMaritalStatus());
+        entity.setPhone(dto.getPhone());
+        entity.setEmail(dto.getEmail());
+        entity.setPlaceOfBirth(dto.getPlaceOfBirth());
+        entity.setEmergencyContact(dto.getEmergencyContact());
+        entity.setAllergies(copyOf(dto.getAllergies()));
+        entity.setSpecificCare(copyOf(dto.getSpecificCare()));
+        entity.setHealthInsurance(dto.getHealthInsurance());
+        entity.setHealthInsuranceNumber(dto.getHealthInsuranceNumber());
+        entity.setHealthInsuranceValidity(dto.getHealthInsuranceValidity());
+        entity.setZipCode(dto.getZipCode());
+        entity.setCity(dto.getCity());
+        entity.setState(dto.getState());
+        entity.setStreet(dto.getStreet());
+        entity.setNumber(dto.getNumber());
+        entity.setComplement(dto.getComplement());
+        entity.setNeighborhood(dto.getNeighborhood());
+        entity.setReferencePoint(dto.getReferencePoint());
     }
 
     public PatientResponseDTO toResponseDTO(Patient entity) {
-        return modelMapper.map(entity, PatientResponseDTO.class);
+        if (entity == null) {
+            return null;
+        }
+        PatientResponseDTO dto = new PatientResponseDTO();
+        dto.setId(entity.getId());
+        dto.setFullName(entity.getFullName());
+        dto.setGender(entity.getGender());
+        dto.setBirthDate(entity.getBirthDate());
+        dto.setCpf(entity.getCpf());
+        dto.setRg(entity.getRg());
+        dto.setRgIssuer(entity.getRgIssuer());
+        dto.setMaritalStatus(entity.getMaritalStatus());
+        dto.setPhone(entity.getPhone());
+        dto.setEmail(entity.getEmail());
+        dto.setPlaceOfBirth(entity.getPlaceOfBirth());
+        dto.setEmergencyContact(entity.getEmergencyContact());
+        dto.setAllergies(copyOf(entity.getAllergies()));
+        dto.setSpecificCare(copyOf(entity.getSpecificCare()));
+        dto.setHealthInsurance(entity.getHealthInsurance());
+        dto.setHealthInsuranceNumber(entity.getHealthInsuranceNumber());
+        dto.setHealthInsuranceValidity(entity.getHealthInsuranceValidity());
+        dto.setZipCode(entity.getZipCode());
+        dto.setCity(entity.getCity());
+        dto.setState(entity.getState());
+        dto.setStreet(entity.getStreet());
+        dto.setNumber(entity.getNumber());
+        dto.setComplement(entity.getComplement());
+        dto.setNeighborhood(entity.getNeighborhood());
+        dto.setReferencePoint(entity.getReferencePoint());
+        return dto;
+    }
+
+    private List<String> copyOf(List<String> values) {
+        return values != null ? new ArrayList<>(values) : null;
     }
-}
\ No newline at end of file
+}
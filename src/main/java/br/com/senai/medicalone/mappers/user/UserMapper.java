@@ -3,21 +3,39 @@ package br.com.senai.medicalone.mappers.user;
 import br.com.senai.medicalone.dtos.user.UserRequestDTO;
 import br.com.senai.medicalone.dtos.user.UserResponseDTO;
 import br.com.senai.medicalone.entities.user.User;
-import org.modelmapper.ModelMapper;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Component
 public class UserMapper {
 
-    @Autowired
-    private ModelMapper modelMapper;
-
     public User toEntity(UserRequestDTO dto) {
-        return modelMapper.map(dto, User.class);
+        if (dto == null) {
+            return null;
+        }
+        User entity = new User();
+        entity.setName(dto.getName());
+        entity.setEmail(dto.getEmail());
+        entity.setBirthDate(dto.getBirthDate());
+        entity.setPhone(dto.getPhone());
+        entity.setCpf(dto.getCpf());
+        entity.setPassword(dto.getPassword());
+        entity.setRole(dto.getRole());
+        return entity;
     }
 
     public UserResponseDTO toResponseDTO(User entity) {
-        return modelMapper.map(entity, UserResponseDTO.class);
+        if (entity == null) {
+            return null;
+        }
+        UserResponseDTO dto = new UserResponseDTO();
+        dto.setId(entity.getId());
+        dto.setName(entity.getName());
+        dto.setEmail(entity.getEmail());
+        dto.setBirthDate(entity.getBirthDate());
+        dto.setPhone(entity.getPhone());
+        dto.setCpf(entity.getCpf());
+        dto.setRole(entity.getRole());
+        dto.setPatientId(entity.getPatientId());
+        return dto;
     }
-}
\ No newline at end of file
+}
@@ -4,17 +4,26 @@ import br.com.senai.medicalone.entities.appointment.Appointment;
 import br.com.senai.medicalone.entities.exam.Exam;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.time.LocalDate;
 import java.time.LocalTime;
 
 @Repository
-public interface AppointmentRepository extends JpaRepository<Appointment, Long> {
+public interface AppointmentRepository extends JpaRepository<Appointment, Long>, JpaSpecificationExecutor<Appointment> {
     Page<Appointment> findByPatientId(Long patientId, Pageable pageable);
+    List<Appointment> findByPatientIdIn(Collection<Long> patientIds);
     Page<Appointment> findAll(Pageable pageable);
     Optional<Appointment> findByPatientIdAndAppointmentDateAndAppointmentTime(Long patientId, LocalDate appointmentDate, LocalTime appointmentTime);
-}
\ No newline at end of file
+
+    static Specification<Appointment> belongsToPatient(Long patientId) {
+        return (root, query, cb) -> patientId == null ? null : cb.equal(root.get("patient").get("id"), patientId);
+    }
+}
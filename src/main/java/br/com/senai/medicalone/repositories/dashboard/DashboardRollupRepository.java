@@ -0,0 +1,45 @@
+package br.com.senai.medicalone.repositories.dashboard;
+
+import br.com.senai.medicalone.entities.dashboard.DashboardRollup;
+import br.com.senai.medicalone.entities.dashboard.DashboardRollupId;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DashboardRollupRepository extends JpaRepository<DashboardRollup, DashboardRollupId> {
+
+    @Query("SELECT r FROM DashboardRollup r " +
+            "WHERE r.id.metric = :metric AND r.id.dimension = :dimension " +
+            "AND r.id.bucketDate BETWEEN :from AND :to AND r.total <> 0")
+    List<DashboardRollup> findRange(@Param("metric") String metric,
+                                    @Param("dimension") String dimension,
+                                    @Param("from") LocalDate from,
+                                    @Param("to") LocalDate to);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_dashboard_rollups"))
+    @Query(value = "DELETE FROM tb_dashboard_rollups", nativeQuery = true)
+    void deleteAllRollups();
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_dashboard_rollups"))
+    @Query(value = "INSERT INTO tb_dashboard_rollups (metric, bucket_date, dimension, dimension_value, total) " +
+            "SELECT 'exams', exam_date, 'total', '', COUNT(*) FROM tb_exams WHERE exam_date IS NOT NULL GROUP BY exam_date " +
+            "UNION ALL " +
+            "SELECT 'exams', exam_date, 'type', COALESCE(type, ''), COUNT(*) FROM tb_exams WHERE exam_date IS NOT NULL GROUP BY exam_date, COALESCE(type, '') " +
+            "UNION ALL " +
+            "SELECT 'exams', exam_date, 'laboratory', COALESCE(laboratory, ''), COUNT(*) FROM tb_exams WHERE exam_date IS NOT NULL GROUP BY exam_date, COALESCE(laboratory, '') " +
+            "UNION ALL " +
+            "SELECT 'appointments', appointment_date, 'total', '', COUNT(*) FROM tb_appointments WHERE appointment_date IS NOT NULL GROUP BY appointment_date",
+            nativeQuery = true)
+    int rebuildAllRollups();
+}
@@ -3,16 +3,29 @@ package br.com.senai.medicalone.repositories.exam;
 import br.com.senai.medicalone.entities.exam.Exam;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface ExamRepository extends JpaRepository<Exam, Long> {
+public interface ExamRepository extends JpaRepository<Exam, Long>, JpaSpecificationExecutor<Exam> {
     Page<Exam> findByName(String name, Pageable pageable);
     Page<Exam> findByPatientId(Long patientId, Pageable pageable);
+    Page<Exam> findByPatientIdAndName(Long patientId, String name, Pageable pageable);
+    List<Exam> findByPatientIdIn(Collection<Long> patientIds);
     boolean existsByPatientIdAndExamDateAndExamTime(Long patientId, LocalDate examDate, LocalTime examTime);
-}
\ No newline at end of file
+
+    static Specification<Exam> belongsToPatient(Long patientId) {
+        return (root, query, cb) -> patientId == null ? null : cb.equal(root.get("patient").get("id"), patientId);
+    }
+
+    static Specification<Exam> hasName(String name) {
+        return (root, query, cb) -> name == null || name.isEmpty() ? null : cb.equal(root.get("name"), name);
+    }
+}
@@ -1,24 +1,52 @@
 package br.com.senai.medicalone.repositories.patient;
 
+import br.com.senai.medicalone.dtos.patient.PatientSummaryDTO;
 import br.com.senai.medicalone.entities.patient.Patient;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
 public interface PatientRepository extends JpaRepository<Patient, Long> {
+    String SUMMARY_SELECT = "SELECT new br.com.senai.medicalone.dtos.patient.PatientSummaryDTO(" +
+            "p.id, p.fullName, p.cpf, p.phone, p.email, p.healthInsurance) FROM Patient p ";
+
     boolean existsByEmail(String email);
     boolean existsByCpf(String cpf);
     boolean existsByPhone(String phone);
 
+    @EntityGraph("Patient.deleteCheck")
+    Optional<Patient> findForDeleteById(Long id);
+
+    @Query("SELECT CASE WHEN (EXISTS (SELECT e.id FROM Exam e WHERE e.patient.id = :id) " +
+            "OR EXISTS (SELECT a.id FROM Appointment a WHERE a.patient.id = :id)) THEN true ELSE false END " +
+            "FROM Patient p WHERE p.id = :id")
+    boolean hasLinkedRecords(@Param("id") Long id);
+
     @Query("SELECT p FROM Patient p WHERE LOWER(p.fullName) LIKE LOWER(CONCAT('%', :name, '%'))")
     List<Patient> findByName(@Param("name") String name);
 
+    @Query("SELECT p FROM Patient p WHERE p.nameKey >= :prefix AND p.nameKey < :prefixEnd ORDER BY p.nameKey, p.id")
+    List<Patient> findByNameKeyRange(@Param("prefix") String prefix, @Param("prefixEnd") String prefixEnd);
+
+    @Query("SELECT p FROM Patient p WHERE p.namePhonetic >= :prefix AND p.namePhonetic < :prefixEnd ORDER BY p.namePhonetic, p.id")
+    List<Patient> findByNamePhoneticRange(@Param("prefix") String prefix, @Param("prefixEnd") String prefixEnd);
+
     @Query("SELECT p FROM Patient p WHERE p.cpf = :cpf")
     Patient findByCpf(@Param("cpf") String cpf);
 
@@ -28,16 +56,73 @@ public interface PatientRepository extends JpaRepository<Patient, Long> {
     @Query("SELECT p FROM Patient p WHERE p.email = :email")
     Patient findByEmail(@Param("email") String email);
 
+    @Query("SELECT p.email FROM Patient p WHERE p.email IN :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT p.cpf FROM Patient p WHERE p.cpf IN :cpfs")
+    Set<String> findExistingCpfs(@Param("cpfs") Collection<String> cpfs);
+
     @Query(
-            "SELECT p FROM Patient p " +
-                    "WHERE (:searchTerm IS NULL OR " +
+            value = SUMMARY_SELECT + "WHERE array_contains(p.allergyTerms, :term)",
+            countQuery = "SELECT COUNT(p) FROM Patient p WHERE array_contains(p.allergyTerms, :term)"
+    )
+    Page<PatientSummaryDTO> findSummariesByAllergyTerm(@Param("term") String term, Pageable pageable);
 
+    @Query(
+            SUMMARY_SELECT +
+                    "WHERE (:searchTerm IS NULL OR " +
                     "p.fullName ILIKE %:searchTerm% OR " +
                     "p.phone ILIKE %:searchTerm% OR " +
                     "p.email ILIKE %:searchTerm%)"
     )
-    Page<Patient> findByFilter(
+    Page<PatientSummaryDTO> findSummariesByFilter(
+            @Param("searchTerm") String searchTerm,
+            Pageable pageable
+    );
+
+    @Query(
+            value = SUMMARY_SELECT +
+                    "WHERE p.fullName ILIKE CONCAT('%', :searchTerm, '%') " +
+                    "OR p.phone ILIKE CONCAT('%', :searchTerm, '%') " +
+                    "OR p.email ILIKE CONCAT('%', :searchTerm, '%') " +
+                    "ORDER BY GREATEST(FUNCTION('similarity', p.fullName, :searchTerm), " +
+                    "FUNCTION('similarity', p.phone, :searchTerm), " +
+                    "FUNCTION('similarity', p.email, :searchTerm)) DESC, p.id",
+            countQuery = "SELECT COUNT(p) FROM Patient p " +
+                    "WHERE p.fullName ILIKE CONCAT('%', :searchTerm, '%') " +
+                    "OR p.phone ILIKE CONCAT('%', :searchTerm, '%') " +
+                    "OR p.email ILIKE CONCAT('%', :searchTerm, '%')"
+    )
+    Page<PatientSummaryDTO> findSummariesByTrigramFilter(
             @Param("searchTerm") String searchTerm,
             Pageable pageable
     );
-}
\ No newline at end of file
+
+    @Query(SUMMARY_SELECT +
+            "WHERE (CAST(:searchTerm AS String) IS NULL " +
+            "OR p.fullName ILIKE CONCAT('%', CAST(:searchTerm AS String), '%') " +
+            "OR p.phone ILIKE CONCAT('%', CAST(:searchTerm AS String), '%') " +
+            "OR p.email ILIKE CONCAT('%', CAST(:searchTerm AS String), '%')) " +
+            "AND (CAST(:fullName AS String) IS NULL OR p.fullName > :fullName " +
+            "OR (p.fullName = :fullName AND p.id > :id)) " +
+            "ORDER BY p.fullName, p.id")
+    List<PatientSummaryDTO> findSummariesAfter(@Param("searchTerm") String searchTerm,
+                                               @Param("fullName") String fullName,
+                                               @Param("id") Long id,
+                                               Limit limit);
+
+    @Query("SELECT p FROM Patient p " +
+            "WHERE (:id IS NULL OR p.id = :id) " +
+            "AND (:name IS NULL OR LOWER(p.fullName) LIKE LOWER(CONCAT('%', CAST(:name AS String), '%')))")
+    Page<Patient> findRecordsByFilter(@Param("id") Long id, @Param("name") String name, Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false"),
+            @QueryHint(name = SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, value = "BYPASS"),
+            @QueryHint(name = SpecHints.HINT_SPEC_CACHE_STORE_MODE, value = "BYPASS")
+    })
+    @Query("SELECT p FROM Patient p ORDER BY p.id")
+    Stream<Patient> streamAllForExport();
+}
@@ -2,10 +2,17 @@ package br.com.senai.medicalone.repositories.user;
 
 import br.com.senai.medicalone.entities.user.PreRegisterUser;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 public interface PreRegisterUserRepository extends JpaRepository<PreRegisterUser, Long> {
     Optional<PreRegisterUser> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    @Query("SELECT p.email FROM PreRegisterUser p WHERE p.email IN :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
 }
\ No newline at end of file
@@ -0,0 +1,118 @@
+package br.com.senai.medicalone.services.appointment;
+
+import br.com.senai.medicalone.config.cache.InvalidationBus;
+import br.com.senai.medicalone.entities.patient.Patient;
+import br.com.senai.medicalone.utils.AhoCorasickMatcher;
+import br.com.senai.medicalone.utils.BoundedExpiringCache;
+import br.com.senai.medicalone.utils.TextNormalizer;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class AllergyConflictChecker {
+
+    private static final String CACHE_NAME = "allergyMatchers";
+
+    private final Map<String, List<String>> synonyms;
+    private final BoundedExpiringCache<Long, CompiledAllergies> cache;
+    private final long ttl;
+
+    @Autowired
+    public AllergyConflictChecker(@Value("${prescription.allergy-check.synonyms:classpath:medication-synonyms.txt}") Resource synonymsResource,
+                                  @Value("${prescription.allergy-check.cache.max-size:10000}") int maxSize,
+                                  @Value("${prescription.allergy-check.cache.ttl:3600000}") long ttl,
+                                  MeterRegistry meterRegistry, InvalidationBus invalidationBus) throws IOException {
+        this.synonyms = loadSynonyms(synonymsResource);
+        this.cache = new BoundedExpiringCache<>(maxSize);
+        this.ttl = ttl;
+        FunctionCounter.builder("cache.gets", cache, BoundedExpiringCache::getHits)
+                .tags("cache", CACHE_NAME, "result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", cache, BoundedExpiringCache::getMisses)
+                .tags("cache", CACHE_NAME, "result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("cache.size", cache, BoundedExpiringCache::size)
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+        invalidationBus.subscribe(InvalidationBus.PATIENT, this::evictPatient);
+    }
+
+    public List<String> findConflicts(Patient patient, String prescribedMedication) {
+        if (patient == null || prescribedMedication == null || prescribedMedication.isBlank()
+                || patient.getAllergies() == null || patient.getAllergies().isEmpty()) {
+            return List.of();
+        }
+        return new ArrayList<>(matcherFor(patient).findAll(TextNormalizer.normalize(prescribedMedication)));
+    }
+
+    private AhoCorasickMatcher<String> matcherFor(Patient patient) {
+        List<String> allergies = new ArrayList<>(patient.getAllergies());
+        CompiledAllergies compiled = patient.getId() != null ? cache.get(patient.getId()) : null;
+        if (compiled == null || !compiled.allergies().equals(allergies)) {
+            compiled = new CompiledAllergies(allergies, compile(allergies));
+            if (patient.getId() != null) {
+                cache.put(patient.getId(), compiled, cache.currentTimeMillis() + ttl);
+            }
+        }
+        return compiled.matcher();
+    }
+
+    private AhoCorasickMatcher<String> compile(List<String> allergies) {
+        Map<String, String> patterns = new HashMap<>();
+        for (String allergy : allergies) {
+            String term = TextNormalizer.normalize(allergy);
+            if (term == null || term.isEmpty()) {
+                continue;
+            }
+            patterns.putIfAbsent(term, allergy);
+            for (String synonym : synonyms.getOrDefault(term, List.of())) {
+                patterns.putIfAbsent(synonym, allergy);
+            }
+        }
+        return new AhoCorasickMatcher<>(patterns);
+    }
+
+    private void evictPatient(String id) {
+        if (id == null) {
+            cache.invalidateAll();
+        } else {
+            cache.invalidate(Long.valueOf(id));
+        }
+    }
+
+    private static Map<String, List<String>> loadSynonyms(Resource resource) throws IOException {
+        Map<String, List<String>> synonyms = new LinkedHashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                List<String> group = TextNormalizer.normalizeAll(List.of(line.split(",")));
+                for (String term : group) {
+                    List<String> known = synonyms.computeIfAbsent(term, key -> new ArrayList<>());
+                    group.stream().filter(synonym -> !known.contains(synonym)).forEach(known::add);
+                }
+            }
+        }
+        return synonyms;
+    }
+
+    private record CompiledAllergies(List<String> allergies, AhoCorasickMatcher<String> matcher) {
+    }
+}
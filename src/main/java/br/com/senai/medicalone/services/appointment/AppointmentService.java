@@ -1,24 +1,35 @@
 package br.com.senai.medicalone.services.appointment;
 
+import br.com.senai.medicalone.config.cache.InvalidationBus;
+import br.com.senai.medicalone.config.data.DatePartitionMaintenance;
 import br.com.senai.medicalone.dtos.appointment.AppointmentRequestDTO;
 import br.com.senai.medicalone.dtos.appointment.AppointmentResponseDTO;
 import br.com.senai.medicalone.entities.appointment.Appointment;
+import br.com.senai.medicalone.entities.patient.Patient;
 import br.com.senai.medicalone.exceptions.customexceptions.AppointmentNotFoundException;
 import br.com.senai.medicalone.exceptions.customexceptions.BadRequestException;
 import br.com.senai.medicalone.mappers.appointment.AppointmentMapper;
 import br.com.senai.medicalone.repositories.appointment.AppointmentRepository;
 import br.com.senai.medicalone.repositories.patient.PatientRepository;
+import br.com.senai.medicalone.services.dashboard.DashboardRollupService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.validation.constraints.Null;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -34,6 +45,21 @@ public class AppointmentService {
     @Autowired
     private PatientRepository patientRepository;
 
+    @Autowired
+    private DashboardRollupService dashboardRollupService;
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @Autowired
+    private DatePartitionMaintenance datePartitionMaintenance;
+
+    @Autowired
+    private AllergyConflictChecker allergyConflictChecker;
+
+    @Value("${prescription.allergy-check.reject:false}")
+    private boolean rejectAllergyConflicts;
+
 
     @Operation(summary = "Cria uma nova consulta", description = "Método para criar uma nova consulta")
     @ApiResponses({
@@ -53,7 +79,8 @@ public class AppointmentService {
         if (dto.getProblemDescription() == null || dto.getProblemDescription().isEmpty()) {
             throw new BadRequestException("Descrição do problema é obrigatória");
         }
-        if (dto.getPatientId() == null || !patientRepository.existsById(dto.getPatientId())) {
+        Patient patient = dto.getPatientId() == null ? null : patientRepository.findById(dto.getPatientId()).orElse(null);
+        if (patient == null) {
             throw new BadRequestException("Paciente não encontrado");
         }
 
@@ -62,11 +89,18 @@ public class AppointmentService {
         if (existingAppointment.isPresent()) {
             throw new BadRequestException("Já existe uma consulta para este paciente na mesma data e hora");
         }
+        List<String> allergyConflicts = checkAllergyConflicts(patient, dto.getPrescribedMedication());
 
+        datePartitionMaintenance.ensurePartition(DatePartitionMaintenance.APPOINTMENTS, dto.getAppointmentDate());
         Appointment appointment = appointmentMapper.toEntity(dto);
+        appointment.setPatient(patient);
         appointment.setId(null);
         appointment = appointmentRepository.save(appointment);
-        return appointmentMapper.toResponseDTO(appointment);
+        dashboardRollupService.recordAppointment(appointment, 1);
+        invalidationBus.publish(InvalidationBus.APPOINTMENT, appointment.getId());
+        AppointmentResponseDTO response = appointmentMapper.toResponseDTO(appointment);
+        response.setAllergyConflicts(allergyConflicts);
+        return response;
     }
 
     @Operation(summary = "Busca consulta por ID", description = "Método para obter uma consulta pelo ID")
@@ -74,6 +108,7 @@ public class AppointmentService {
             @ApiResponse(responseCode = "200", description = "Consulta encontrada com sucesso"),
             @ApiResponse(responseCode = "404", description = "Consulta não encontrada")
     })
+    @Transactional(readOnly = true)
     public AppointmentResponseDTO getAppointmentById(Long id) {
         Optional<Appointment> appointmentOptional = appointmentRepository.findById(id);
         if (appointmentOptional.isEmpty()) {
@@ -110,6 +145,12 @@ public class AppointmentService {
             throw new AppointmentNotFoundException("Consulta não encontrada");
         }
         Appointment appointment = appointmentOptional.get();
+        List<String> allergyConflicts = checkAllergyConflicts(appointment.getPatient(), dto.getPrescribedMedication());
+        boolean rollupChanged = !Objects.equals(appointment.getAppointmentDate(), dto.getAppointmentDate());
+        if (rollupChanged) {
+            datePartitionMaintenance.ensurePartition(DatePartitionMaintenance.APPOINTMENTS, dto.getAppointmentDate());
+            dashboardRollupService.recordAppointment(appointment, -1);
+        }
         appointment.setAppointmentReason(dto.getAppointmentReason());
         appointment.setAppointmentDate(dto.getAppointmentDate());
         appointment.setAppointmentTime(dto.getAppointmentTime());
@@ -117,7 +158,13 @@ public class AppointmentService {
         appointment.setPrescribedMedication(dto.getPrescribedMedication());
         appointment.setObservations(dto.getObservations());
         appointment = appointmentRepository.save(appointment);
-        return appointmentMapper.toResponseDTO(appointment);
+        if (rollupChanged) {
+            dashboardRollupService.recordAppointment(appointment, 1);
+        }
+        invalidationBus.publish(InvalidationBus.APPOINTMENT, id);
+        AppointmentResponseDTO response = appointmentMapper.toResponseDTO(appointment);
+        response.setAllergyConflicts(allergyConflicts);
+        return response;
     }
 
     @Operation(summary = "Deleta uma consulta", description = "Método para deletar uma consulta")
@@ -127,16 +174,20 @@ public class AppointmentService {
     })
     @Transactional
     public void deleteAppointment(Long id) {
-        if (!appointmentRepository.existsById(id)) {
+        Optional<Appointment> appointmentOptional = appointmentRepository.findById(id);
+        if (appointmentOptional.isEmpty()) {
             throw new AppointmentNotFoundException("Consulta não encontrada");
         }
-        appointmentRepository.deleteById(id);
+        appointmentRepository.delete(appointmentOptional.get());
+        dashboardRollupService.recordAppointment(appointmentOptional.get(), -1);
+        invalidationBus.publish(InvalidationBus.APPOINTMENT, id);
     }
 
     @Operation(summary = "Lista consultas", description = "Método para listar consultas")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Consultas listadas com sucesso")
     })
+    @Transactional(readOnly = true)
     public Page<AppointmentResponseDTO> listAppointments(String name, Long patientId, Pageable pageable) {
         Page<Appointment> appointments;
         if (patientId != null) {
@@ -147,8 +198,38 @@ public class AppointmentService {
         return appointments.map(appointmentMapper::toResponseDTO);
     }
 
+    @Operation(summary = "Percorre consultas por cursor", description = "Método para listar consultas com paginação por cursor (data da consulta, ID), sem contagem total")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Consultas listadas com sucesso")
+    })
+    @Transactional(readOnly = true)
+    public Window<AppointmentResponseDTO> scrollAppointments(Long patientId, KeysetScrollPosition position, int size) {
+        Window<Appointment> appointments = appointmentRepository.findBy(AppointmentRepository.belongsToPatient(patientId),
+                query -> query.sortBy(Sort.by("appointmentDate", "id")).limit(size).scroll(position));
+        return appointments.map(appointmentMapper::toResponseDTO);
+    }
+
+    @Transactional(readOnly = true)
     public Page<AppointmentResponseDTO> getAppointmentsByPatientId(Long patientId, Pageable pageable) {
         Page<Appointment> appointments = appointmentRepository.findByPatientId(patientId, pageable);
         return appointments.map(appointmentMapper::toResponseDTO);
     }
-}
\ No newline at end of file
+
+    @Transactional(readOnly = true)
+    public Map<Long, List<AppointmentResponseDTO>> getAppointmentsByPatientIds(Collection<Long> patientIds) {
+        if (patientIds.isEmpty()) {
+            return Map.of();
+        }
+        return appointmentRepository.findByPatientIdIn(patientIds).stream()
+                .collect(Collectors.groupingBy(appointment -> appointment.getPatient().getId(),
+                        Collectors.mapping(appointmentMapper::toResponseDTO, Collectors.toList())));
+    }
+
+    private List<String> checkAllergyConflicts(Patient patient, String prescribedMedication) {
+        List<String> conflicts = allergyConflictChecker.findConflicts(patient, prescribedMedication);
+        if (rejectAllergyConflicts && !conflicts.isEmpty()) {
+            throw new BadRequestException("Medicação prescrita conflita com alergias do paciente: " + String.join(", ", conflicts));
+        }
+        return conflicts;
+    }
+}
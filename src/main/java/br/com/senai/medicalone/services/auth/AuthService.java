@@ -1,6 +1,6 @@
 package br.com.senai.medicalone.services.auth;
 
-import br.com.senai.medicalone.entities.user.User;
+import br.com.senai.medicalone.config.security.AuthenticatedUser;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -13,8 +13,8 @@ public class AuthService {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         Object principal = authentication.getPrincipal();
 
-        if (principal instanceof User) {
-            User user = (User) principal;
+        if (principal instanceof AuthenticatedUser) {
+            AuthenticatedUser user = (AuthenticatedUser) principal;
             if (user.getPatientId() == null) {
                 throw new RuntimeException("Paciente não associado ao usuário autenticado");
             }
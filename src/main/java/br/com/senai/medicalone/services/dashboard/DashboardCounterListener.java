@@ -0,0 +1,42 @@
+package br.com.senai.medicalone.services.dashboard;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class DashboardCounterListener {
+
+    @Autowired
+    private ObjectProvider<DashboardCounters> dashboardCounters;
+
+    @PostPersist
+    public void onPersist(Object entity) {
+        dashboardCounters.ifAvailable(counters -> record(counters, Hibernate.getClass(entity), 1));
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        dashboardCounters.ifAvailable(counters -> record(counters, Hibernate.getClass(entity), -1));
+    }
+
+    // a escrita fica pendente até o fim da transação para que o reconcile não a conte duas vezes
+    private void record(DashboardCounters counters, Class<?> entityType, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            counters.add(entityType, delta);
+            return;
+        }
+        counters.beginWrite(entityType);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                counters.endWrite(entityType, status == STATUS_COMMITTED ? delta : 0);
+            }
+        });
+    }
+}
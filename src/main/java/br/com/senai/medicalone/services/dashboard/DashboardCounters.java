@@ -0,0 +1,201 @@
+package br.com.senai.medicalone.services.dashboard;
+
+import br.com.senai.medicalone.config.cache.InvalidationBus;
+import br.com.senai.medicalone.entities.appointment.Appointment;
+import br.com.senai.medicalone.entities.exam.Exam;
+import br.com.senai.medicalone.entities.patient.Patient;
+import br.com.senai.medicalone.entities.user.User;
+import br.com.senai.medicalone.repositories.appointment.AppointmentRepository;
+import br.com.senai.medicalone.repositories.exam.ExamRepository;
+import br.com.senai.medicalone.repositories.patient.PatientRepository;
+import br.com.senai.medicalone.repositories.user.UserRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class DashboardCounters {
+
+    public static final String PATIENT_COUNT = "patientCount";
+    public static final String APPOINTMENT_COUNT = "appointmentCount";
+    public static final String EXAM_COUNT = "examCount";
+    public static final String USER_COUNT = "userCount";
+
+    private static final Map<Class<?>, String> KEYS = Map.of(
+            Patient.class, PATIENT_COUNT,
+            Appointment.class, APPOINTMENT_COUNT,
+            Exam.class, EXAM_COUNT,
+            User.class, USER_COUNT
+    );
+
+    private final Map<String, Counter> counters = new LinkedHashMap<>();
+
+    private final AtomicLong epoch = new AtomicLong();
+
+    private volatile long seededEpoch = -1;
+
+    @Autowired
+    private PatientRepository patientRepository;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private ExamRepository examRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    public DashboardCounters() {
+        counters.put(PATIENT_COUNT, new Counter());
+        counters.put(APPOINTMENT_COUNT, new Counter());
+        counters.put(EXAM_COUNT, new Counter());
+        counters.put(USER_COUNT, new Counter());
+    }
+
+    // escritas de outros nós são corrigidas pelo reconcile; só a reconexão do barramento, que pode ter perdido
+    // eventos, força uma nova contagem
+    @PostConstruct
+    public void subscribe() {
+        for (String entityType : List.of(InvalidationBus.PATIENT, InvalidationBus.APPOINTMENT,
+                InvalidationBus.EXAM, InvalidationBus.USER)) {
+            invalidationBus.subscribe(entityType, id -> {
+                if (id == null) {
+                    invalidate();
+                }
+            });
+        }
+    }
+
+    public Map<String, Long> snapshot() {
+        if (seededEpoch != epoch.get()) {
+            seed();
+        }
+        Map<String, Long> statistics = new HashMap<>();
+        counters.forEach((key, counter) -> statistics.put(key, counter.value()));
+        return statistics;
+    }
+
+    public void increment(Class<?> entityType) {
+        add(entityType, 1);
+    }
+
+    public void decrement(Class<?> entityType) {
+        add(entityType, -1);
+    }
+
+    public void add(Class<?> entityType, long delta) {
+        Counter counter = counterFor(entityType);
+        if (counter != null) {
+            counter.add(delta);
+        }
+    }
+
+    public void beginWrite(Class<?> entityType) {
+        Counter counter = counterFor(entityType);
+        if (counter != null) {
+            counter.begin();
+        }
+    }
+
+    public void endWrite(Class<?> entityType, long delta) {
+        Counter counter = counterFor(entityType);
+        if (counter != null) {
+            counter.end(delta);
+        }
+    }
+
+    public void invalidate() {
+        epoch.incrementAndGet();
+    }
+
+    @Scheduled(initialDelayString = "${dashboard.counters.reconcile-interval:300000}",
+            fixedDelayString = "${dashboard.counters.reconcile-interval:300000}")
+    public void reconcile() {
+        reconcile(false);
+    }
+
+    private synchronized void seed() {
+        if (seededEpoch != epoch.get()) {
+            reconcile(true);
+        }
+    }
+
+    private void reconcile(boolean force) {
+        long currentEpoch = epoch.get();
+        reconcile(PATIENT_COUNT, patientRepository, force);
+        reconcile(APPOINTMENT_COUNT, appointmentRepository, force);
+        reconcile(EXAM_COUNT, examRepository, force);
+        reconcile(USER_COUNT, userRepository, force);
+        seededEpoch = currentEpoch;
+    }
+
+    // uma escrita em andamento ou concluída durante o count pode ou não estar nele; nesse caso o valor em memória
+    // é mantido e a correção fica para o próximo ciclo
+    private void reconcile(String key, CrudRepository<?, ?> repository, boolean force) {
+        Counter counter = counters.get(key);
+        long stamp = counter.stamp();
+        long count = repository.count();
+        if (force) {
+            counter.reset(count);
+        } else {
+            counter.resetIfUnchanged(stamp, count);
+        }
+    }
+
+    private Counter counterFor(Class<?> entityType) {
+        String key = KEYS.get(entityType);
+        return key != null ? counters.get(key) : null;
+    }
+
+    private static final class Counter {
+
+        private long value;
+        private long pending;
+        private long writes;
+
+        synchronized long value() {
+            return value;
+        }
+
+        synchronized void add(long delta) {
+            value += delta;
+            writes++;
+        }
+
+        synchronized void begin() {
+            pending++;
+        }
+
+        synchronized void end(long delta) {
+            pending--;
+            value += delta;
+            writes++;
+        }
+
+        synchronized long stamp() {
+            return pending == 0 ? writes : -1;
+        }
+
+        synchronized void reset(long count) {
+            value = count;
+        }
+
+        synchronized void resetIfUnchanged(long stamp, long count) {
+            if (stamp >= 0 && pending == 0 && writes == stamp) {
+                value = count;
+            }
+        }
+    }
+}
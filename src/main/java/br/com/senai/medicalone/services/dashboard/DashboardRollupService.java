@@ -0,0 +1,169 @@
+package br.com.senai.medicalone.services.dashboard;
+
+import br.com.senai.medicalone.dtos.dashboard.DashboardSeriesDTO;
+import br.com.senai.medicalone.dtos.dashboard.DashboardSeriesPointDTO;
+import br.com.senai.medicalone.entities.appointment.Appointment;
+import br.com.senai.medicalone.entities.dashboard.DashboardRollup;
+import br.com.senai.medicalone.entities.exam.Exam;
+import br.com.senai.medicalone.exceptions.customexceptions.BadRequestException;
+import br.com.senai.medicalone.repositories.dashboard.DashboardRollupRepository;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+@Service
+public class DashboardRollupService {
+
+    public static final String EXAMS = "exams";
+    public static final String APPOINTMENTS = "appointments";
+
+    private static final String TOTAL = "total";
+    private static final Set<String> GRANULARITIES = Set.of("day", "week", "month");
+    private static final Set<String> EXAM_DIMENSIONS = Set.of("type", "laboratory");
+
+    private static final String POSTGRES_UPSERT =
+            "INSERT INTO tb_dashboard_rollups (metric, bucket_date, dimension, dimension_value, total) " +
+            "VALUES (?, ?, ?, ?, ?) " +
+            "ON CONFLICT (metric, bucket_date, dimension, dimension_value) " +
+            "DO UPDATE SET total = tb_dashboard_rollups.total + EXCLUDED.total";
+
+    private static final String STANDARD_UPSERT =
+            "MERGE INTO tb_dashboard_rollups r " +
+            "USING (VALUES (CAST(? AS VARCHAR(20)), CAST(? AS DATE), CAST(? AS VARCHAR(20)), CAST(? AS VARCHAR(255)), CAST(? AS BIGINT))) " +
+            "AS s (metric, bucket_date, dimension, dimension_value, total) " +
+            "ON r.metric = s.metric AND r.bucket_date = s.bucket_date " +
+            "AND r.dimension = s.dimension AND r.dimension_value = s.dimension_value " +
+            "WHEN MATCHED THEN UPDATE SET total = r.total + s.total " +
+            "WHEN NOT MATCHED THEN INSERT (metric, bucket_date, dimension, dimension_value, total) " +
+            "VALUES (s.metric, s.bucket_date, s.dimension, s.dimension_value, s.total)";
+
+    @Autowired
+    private DashboardRollupRepository dashboardRollupRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean postgreSQL;
+
+    @Operation(summary = "Atualiza agregados de exames", description = "Método para somar ou subtrair um exame dos agregados diários por total, tipo e laboratório")
+    @Transactional
+    public void recordExam(Exam exam, long delta) {
+        if (exam.getExamDate() == null) {
+            return;
+        }
+        Date bucket = Date.valueOf(exam.getExamDate());
+        List<Object[]> rows = new ArrayList<>(3);
+        rows.add(new Object[]{EXAMS, bucket, TOTAL, "", delta});
+        rows.add(new Object[]{EXAMS, bucket, "type", valueOf(exam.getType()), delta});
+        rows.add(new Object[]{EXAMS, bucket, "laboratory", valueOf(exam.getLaboratory()), delta});
+        jdbcTemplate.batchUpdate(upsertSql(), rows);
+    }
+
+    @Operation(summary = "Atualiza agregados de consultas", description = "Método para somar ou subtrair uma consulta dos agregados diários")
+    @Transactional
+    public void recordAppointment(Appointment appointment, long delta) {
+        if (appointment.getAppointmentDate() == null) {
+            return;
+        }
+        jdbcTemplate.update(upsertSql(), APPOINTMENTS, Date.valueOf(appointment.getAppointmentDate()), TOTAL, "", delta);
+    }
+
+    @Operation(summary = "Reconstrói os agregados", description = "Método para recalcular todos os agregados do dashboard a partir de exames e consultas")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Agregados reconstruídos com sucesso")
+    })
+    @Transactional
+    public int rebuild() {
+        // bloqueia os upserts concorrentes até o commit, sem impedir a leitura dos agregados antigos
+        if (isPostgreSQL()) {
+            jdbcTemplate.execute("LOCK TABLE tb_dashboard_rollups IN EXCLUSIVE MODE");
+        }
+        dashboardRollupRepository.deleteAllRollups();
+        return dashboardRollupRepository.rebuildAllRollups();
+    }
+
+    @Operation(summary = "Consulta série temporal", description = "Método para obter contagens por dia, semana ou mês a partir dos agregados do dashboard")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Série obtida com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Parâmetros inválidos")
+    })
+    @Transactional(readOnly = true)
+    public DashboardSeriesDTO getSeries(String metric, String granularity, String groupBy, LocalDate from, LocalDate to) {
+        if (!EXAMS.equals(metric) && !APPOINTMENTS.equals(metric)) {
+            throw new BadRequestException("Métrica inválida: use exams ou appointments");
+        }
+        if (!GRANULARITIES.contains(granularity)) {
+            throw new BadRequestException("Granularidade inválida: use day, week ou month");
+        }
+        if (groupBy != null && (!EXAMS.equals(metric) || !EXAM_DIMENSIONS.contains(groupBy))) {
+            throw new BadRequestException("Agrupamento inválido: use type ou laboratory para exames");
+        }
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new BadRequestException("Intervalo de datas inválido");
+        }
+
+        String dimension = groupBy != null ? groupBy : TOTAL;
+        Map<LocalDate, Map<String, Long>> buckets = new TreeMap<>();
+        for (DashboardRollup rollup : dashboardRollupRepository.findRange(metric, dimension, from, to)) {
+            LocalDate bucket = bucketOf(rollup.getId().getBucketDate(), granularity);
+            buckets.computeIfAbsent(bucket, key -> new TreeMap<>())
+                    .merge(rollup.getId().getDimensionValue(), rollup.getTotal(), Long::sum);
+        }
+
+        List<DashboardSeriesPointDTO> points = new ArrayList<>();
+        buckets.forEach((bucket, counts) -> counts.forEach((key, count) -> {
+            if (count != 0) {
+                points.add(new DashboardSeriesPointDTO(bucket, groupBy != null ? key : null, count));
+            }
+        }));
+
+        DashboardSeriesDTO series = new DashboardSeriesDTO();
+        series.setMetric(metric);
+        series.setGranularity(granularity);
+        series.setGroupBy(groupBy);
+        series.setFrom(from);
+        series.setTo(to);
+        series.setPoints(points);
+        return series;
+    }
+
+    private LocalDate bucketOf(LocalDate date, String granularity) {
+        return switch (granularity) {
+            case "week" -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case "month" -> date.withDayOfMonth(1);
+            default -> date;
+        };
+    }
+
+    private String valueOf(String dimensionValue) {
+        return dimensionValue != null ? dimensionValue : "";
+    }
+
+    private String upsertSql() {
+        return isPostgreSQL() ? POSTGRES_UPSERT : STANDARD_UPSERT;
+    }
+
+    private boolean isPostgreSQL() {
+        if (postgreSQL == null) {
+            String databaseProductName = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            postgreSQL = "PostgreSQL".equalsIgnoreCase(databaseProductName);
+        }
+        return postgreSQL;
+    }
+}
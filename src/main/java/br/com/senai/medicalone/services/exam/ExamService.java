@@ -1,5 +1,7 @@
 package br.com.senai.medicalone.services.exam;
 
+import br.com.senai.medicalone.config.cache.InvalidationBus;
+import br.com.senai.medicalone.config.data.DatePartitionMaintenance;
 import br.com.senai.medicalone.dtos.exam.ExamRequestDTO;
 import br.com.senai.medicalone.dtos.exam.ExamResponseDTO;
 import br.com.senai.medicalone.entities.exam.Exam;
@@ -10,16 +12,23 @@ import br.com.senai.medicalone.exceptions.customexceptions.PatientNotFoundExcept
 import br.com.senai.medicalone.mappers.exam.ExamMapper;
 import br.com.senai.medicalone.repositories.exam.ExamRepository;
 import br.com.senai.medicalone.repositories.patient.PatientRepository;
+import br.com.senai.medicalone.services.dashboard.DashboardRollupService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -34,6 +43,15 @@ public class ExamService {
 
     @Autowired
     private PatientRepository patientRepository;
+
+    @Autowired
+    private DashboardRollupService dashboardRollupService;
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @Autowired
+    private DatePartitionMaintenance datePartitionMaintenance;
     @Operation(summary = "Cria um novo exame", description = "Método para criar um novo exame")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "Exame criado com sucesso"),
@@ -42,8 +60,8 @@ public class ExamService {
 
     @Transactional
     public ExamResponseDTO createExam(ExamRequestDTO dto) {
-        Optional<Patient> patientOptional = patientRepository.findById(dto.getPatientId());
-        if (patientOptional.isEmpty()) {
+        Patient patient = dto.getPatientId() == null ? null : patientRepository.findById(dto.getPatientId()).orElse(null);
+        if (patient == null) {
             throw new PatientNotFoundException("Paciente não encontrado");
         }
         if (dto.getName() == null || dto.getName().isEmpty()) {
@@ -65,10 +83,13 @@ public class ExamService {
             throw new BadRequestException("Já existe um exame para este paciente na mesma data e hora");
         }
 
+        datePartitionMaintenance.ensurePartition(DatePartitionMaintenance.EXAMS, dto.getExamDate());
         Exam exam = examMapper.toEntity(dto);
-        exam.setPatient(patientOptional.get());
+        exam.setPatient(patient);
         exam.setId(null);
         exam = examRepository.save(exam);
+        dashboardRollupService.recordExam(exam, 1);
+        invalidationBus.publish(InvalidationBus.EXAM, exam.getId());
         return examMapper.toResponseDTO(exam);
     }
 
@@ -77,6 +98,7 @@ public class ExamService {
             @ApiResponse(responseCode = "200", description = "Exame encontrado com sucesso"),
             @ApiResponse(responseCode = "404", description = "Exame não encontrado")
     })
+    @Transactional(readOnly = true)
     public ExamResponseDTO getExamById(Long id) {
         Optional<Exam> examOptional = examRepository.findById(id);
         if (examOptional.isEmpty()) {
@@ -100,6 +122,13 @@ public class ExamService {
             throw new BadRequestException("Exam name is required");
         }
         Exam exam = examOptional.get();
+        boolean rollupChanged = !Objects.equals(exam.getExamDate(), dto.getExamDate())
+                || !Objects.equals(exam.getType(), dto.getType())
+                || !Objects.equals(exam.getLaboratory(), dto.getLaboratory());
+        if (rollupChanged) {
+            datePartitionMaintenance.ensurePartition(DatePartitionMaintenance.EXAMS, dto.getExamDate());
+            dashboardRollupService.recordExam(exam, -1);
+        }
         exam.setName(dto.getName());
         exam.setExamDate(dto.getExamDate());
         exam.setExamTime(dto.getExamTime());
@@ -108,6 +137,10 @@ public class ExamService {
         exam.setDocumentUrl(dto.getDocumentUrl());
         exam.setResults(dto.getResults());
         exam = examRepository.save(exam);
+        if (rollupChanged) {
+            dashboardRollupService.recordExam(exam, 1);
+        }
+        invalidationBus.publish(InvalidationBus.EXAM, id);
         return examMapper.toResponseDTO(exam);
     }
 
@@ -118,21 +151,28 @@ public class ExamService {
     })
     @Transactional
     public void deleteExam(Long id) {
-        if (!examRepository.existsById(id)) {
+        Optional<Exam> examOptional = examRepository.findById(id);
+        if (examOptional.isEmpty()) {
             throw new ExamNotFoundException("Exame não encontrado");
         }
-        examRepository.deleteById(id);
+        examRepository.delete(examOptional.get());
+        dashboardRollupService.recordExam(examOptional.get(), -1);
+        invalidationBus.publish(InvalidationBus.EXAM, id);
     }
 
     @Operation(summary = "Lista todos os exames", description = "Método para listar exames")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Exames listados com sucesso")
     })
+    @Transactional(readOnly = true)
     public Page<ExamResponseDTO> listExams(String name, Long patientId, Pageable pageable) {
         Page<Exam> exams;
-        if (patientId != null) {
+        boolean hasName = name != null && !name.isEmpty();
+        if (patientId != null && hasName) {
+            exams = examRepository.findByPatientIdAndName(patientId, name, pageable);
+        } else if (patientId != null) {
             exams = examRepository.findByPatientId(patientId, pageable);
-        } else if (name != null && !name.isEmpty()) {
+        } else if (hasName) {
             exams = examRepository.findByName(name, pageable);
         } else {
             exams = examRepository.findAll(pageable);
@@ -140,13 +180,38 @@ public class ExamService {
         return exams.map(examMapper::toResponseDTO);
     }
 
+    @Operation(summary = "Percorre exames por cursor", description = "Método para listar exames com paginação por cursor (data do exame, ID), sem contagem total")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Exames listados com sucesso")
+    })
+    @Transactional(readOnly = true)
+    public Window<ExamResponseDTO> scrollExams(String name, Long patientId, KeysetScrollPosition position, int size) {
+        Window<Exam> exams = examRepository.findBy(ExamRepository.belongsToPatient(patientId).and(ExamRepository.hasName(name)),
+                query -> query.sortBy(Sort.by("examDate", "id")).limit(size).scroll(position));
+        return exams.map(examMapper::toResponseDTO);
+    }
+
     @Operation(summary = "Lista exames por ID do paciente", description = "Método para listar exames por ID do paciente")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Exames encontrados com sucesso")
     })
+    @Transactional(readOnly = true)
     public Page<ExamResponseDTO> getExamsByPatientId(Long patientId, Pageable pageable) {
         Page<Exam> exams = examRepository.findByPatientId(patientId, pageable);
         return exams.map(examMapper::toResponseDTO);
     }
 
-}
\ No newline at end of file
+    @Operation(summary = "Lista exames de vários pacientes", description = "Método para listar, em uma única consulta, os exames de um conjunto de pacientes agrupados por ID do paciente")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Exames encontrados com sucesso")
+    })
+    @Transactional(readOnly = true)
+    public Map<Long, List<ExamResponseDTO>> getExamsByPatientIds(Collection<Long> patientIds) {
+        if (patientIds.isEmpty()) {
+            return Map.of();
+        }
+        return examRepository.findByPatientIdIn(patientIds).stream()
+                .collect(Collectors.groupingBy(exam -> exam.getPatient().getId(),
+                        Collectors.mapping(examMapper::toResponseDTO, Collectors.toList())));
+    }
+}
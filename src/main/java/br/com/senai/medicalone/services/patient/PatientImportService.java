@@ -0,0 +1,315 @@
+package br.com.senai.medicalone.services.patient;
+
+import br.com.senai.medicalone.config.cache.InvalidationBus;
+import br.com.senai.medicalone.config.security.UserDetailsCache;
+import br.com.senai.medicalone.dtos.patient.PatientImportResultDTO;
+import br.com.senai.medicalone.dtos.patient.PatientImportRowDTO;
+import br.com.senai.medicalone.dtos.patient.PatientRequestDTO;
+import br.com.senai.medicalone.entities.patient.Patient;
+import br.com.senai.medicalone.entities.user.RoleType;
+import br.com.senai.medicalone.entities.user.User;
+import br.com.senai.medicalone.exceptions.customexceptions.BadRequestException;
+import br.com.senai.medicalone.mappers.patient.PatientMapper;
+import br.com.senai.medicalone.repositories.patient.PatientRepository;
+import br.com.senai.medicalone.repositories.user.PreRegisterUserRepository;
+import br.com.senai.medicalone.repositories.user.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+public class PatientImportService {
+
+    private static final int IMPORT_BATCH_SIZE = 500;
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .findAndAddModules()
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    @Autowired
+    private PatientService patientService;
+
+    @Autowired
+    private PatientRepository patientRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PreRegisterUserRepository preRegisterUserRepository;
+
+    @Autowired
+    private PatientMapper patientMapper;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${patient.import.hash-threads:2}")
+    private int hashThreads;
+
+    private ExecutorService passwordHashing;
+
+    @PostConstruct
+    public void startPasswordHashing() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        passwordHashing = Executors.newFixedThreadPool(hashThreads, runnable -> {
+            Thread thread = new Thread(runnable, "patient-import-hash-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stopPasswordHashing() {
+        passwordHashing.shutdownNow();
+    }
+
+    @Operation(summary = "Importar pacientes em lote", description = "Método para importar pacientes de um arquivo CSV ou " +
+                                                                     "de um array JSON, gravando em lotes com uma transação por lote")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Importação concluída, com o resultado de cada registro")
+    })
+    public PatientImportResultDTO importPatients(InputStream inputStream, String contentType) throws IOException {
+        PatientImportResultDTO result = new PatientImportResultDTO();
+        List<ImportRow> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+        int rowNumber = 0;
+        try (MappingIterator<PatientRequestDTO> iterator = readerFor(contentType).readValues(inputStream)) {
+            while (true) {
+                try {
+                    if (!iterator.hasNextValue()) {
+                        break;
+                    }
+                    rowNumber++;
+                    batch.add(new ImportRow(rowNumber, iterator.nextValue()));
+                } catch (JsonMappingException e) {
+                    result.reject(rowNumber, "dados inválidos: " + describeField(e));
+                } catch (JsonProcessingException e) {
+                    result.reject(rowNumber + 1, "arquivo inválido a partir deste registro");
+                    break;
+                }
+                if (batch.size() == IMPORT_BATCH_SIZE) {
+                    importBatch(batch, result);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            importBatch(batch, result);
+        }
+        result.getRows().sort(Comparator.comparingInt(PatientImportRowDTO::getRow));
+        return result;
+    }
+
+    private ObjectReader readerFor(String contentType) {
+        if (contentType != null && contentType.toLowerCase().contains("csv")) {
+            CsvSchema schema = CsvSchema.emptySchema().withHeader().withArrayElementSeparator(";");
+            return CSV_MAPPER.readerFor(PatientRequestDTO.class).with(schema);
+        }
+        return objectMapper.readerFor(PatientRequestDTO.class);
+    }
+
+    private String describeField(JsonMappingException e) {
+        List<JsonMappingException.Reference> path = e.getPath();
+        if (path.isEmpty() || path.get(path.size() - 1).getFieldName() == null) {
+            return "formato do registro";
+        }
+        return path.get(path.size() - 1).getFieldName();
+    }
+
+    private void importBatch(List<ImportRow> batch, PatientImportResultDTO result) {
+        List<ImportRow> candidates = new ArrayList<>(batch.size());
+        Set<String> batchEmails = new HashSet<>();
+        Set<String> batchCpfs = new HashSet<>();
+        for (ImportRow row : batch) {
+            try {
+                patientService.validatePatientRequestDTO(row.dto);
+                if (row.dto.getEmail() == null || row.dto.getEmail().isEmpty()) {
+                    throw new BadRequestException("dados ausentes: email");
+                }
+            } catch (BadRequestException e) {
+                result.reject(row.number, e.getMessage());
+                continue;
+            }
+            row.cpf = cleanString(row.dto.getCpf());
+            row.phone = cleanString(row.dto.getPhone());
+            if (!batchEmails.add(row.dto.getEmail())) {
+                result.reject(row.number, "Email já cadastrado");
+            } else if (!batchCpfs.add(row.cpf)) {
+                result.reject(row.number, "CPF já cadastrado");
+            } else {
+                candidates.add(row);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        Set<String> takenEmails = new HashSet<>(patientRepository.findExistingEmails(batchEmails));
+        takenEmails.addAll(preRegisterUserRepository.findExistingEmails(batchEmails));
+        Set<String> takenCpfs = patientRepository.findExistingCpfs(batchCpfs);
+
+        List<ImportRow> accepted = new ArrayList<>(candidates.size());
+        for (ImportRow row : candidates) {
+            if (takenEmails.contains(row.dto.getEmail())) {
+                result.reject(row.number, "Email já cadastrado");
+            } else if (takenCpfs.contains(row.cpf)) {
+                result.reject(row.number, "CPF já cadastrado");
+            } else {
+                accepted.add(row);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        CompletableFuture.allOf(accepted.stream()
+                .map(row -> CompletableFuture.runAsync(() -> row.password = passwordEncoder.encode(row.cpf), passwordHashing))
+                .toArray(CompletableFuture[]::new)).join();
+
+        try {
+            persistRows(accepted);
+            accepted.forEach(row -> result.accept(row.number, row.patientId));
+        } catch (RuntimeException batchFailure) {
+            for (ImportRow row : accepted) {
+                try {
+                    persistRows(List.of(row));
+                    result.accept(row.number, row.patientId);
+                } catch (RuntimeException e) {
+                    result.reject(row.number, "Erro ao salvar paciente");
+                }
+            }
+        }
+    }
+
+    private void persistRows(List<ImportRow> rows) {
+        List<String> linkedEmails = transactionTemplate.execute(status -> {
+            Collection<String> emails = rows.stream().map(row -> row.dto.getEmail()).toList();
+            Collection<String> cpfs = rows.stream().map(row -> row.cpf).toList();
+            Map<String, User> usersByEmail = new HashMap<>();
+            Map<String, User> usersByCpf = new HashMap<>();
+            for (User user : userRepository.findByEmailInOrCpfIn(emails, cpfs)) {
+                usersByEmail.put(user.getEmail(), user);
+                if (user.getCpf() != null) {
+                    usersByCpf.put(user.getCpf(), user);
+                }
+            }
+
+            List<User> newUsers = new ArrayList<>();
+            List<Patient> patients = new ArrayList<>(rows.size());
+            List<String> existingUserEmails = new ArrayList<>();
+            for (ImportRow row : rows) {
+                Patient patient = patientMapper.toEntity(row.dto);
+                patient.setId(null);
+                patient.setPassword(row.password);
+                patient.setCpf(row.cpf);
+                patient.setPhone(row.phone);
+
+                User user = usersByEmail.getOrDefault(row.dto.getEmail(), usersByCpf.get(row.cpf));
+                if (user != null) {
+                    existingUserEmails.add(user.getEmail());
+                } else {
+                    user = new User();
+                    user.setName(patient.getFullName());
+                    user.setEmail(patient.getEmail());
+                    user.setBirthDate(patient.getBirthDate());
+                    user.setPhone(row.phone);
+                    user.setCpf(row.cpf);
+                    user.setPassword(row.password);
+                    user.setRole(RoleType.PACIENTE);
+                    newUsers.add(user);
+                }
+                patient.setUser(user);
+                patients.add(patient);
+            }
+
+            userRepository.saveAll(newUsers);
+            patientRepository.saveAll(patients);
+            List<Long> patientIds = new ArrayList<>(rows.size());
+            List<Long> userIds = new ArrayList<>(rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                Patient patient = patients.get(i);
+                patient.getUser().setPatientId(patient.getId());
+                rows.get(i).patientId = patient.getId();
+                patientIds.add(patient.getId());
+                userIds.add(patient.getUser().getId());
+            }
+            invalidationBus.publishAll(InvalidationBus.PATIENT, patientIds);
+            invalidationBus.publishAll(InvalidationBus.USER, userIds);
+            entityManager.flush();
+            entityManager.clear();
+            return existingUserEmails;
+        });
+        if (linkedEmails != null) {
+            linkedEmails.forEach(userDetailsCache::evict);
+        }
+    }
+
+    private String cleanString(String value) {
+        return value != null ? value.replaceAll("\\D", "") : null;
+    }
+
+    private static class ImportRow {
+        private final int number;
+        private final PatientRequestDTO dto;
+        private String cpf;
+        private String phone;
+        private String password;
+        private Long patientId;
+
+        private ImportRow(int number, PatientRequestDTO dto) {
+            this.number = number;
+            this.dto = dto;
+        }
+    }
+}
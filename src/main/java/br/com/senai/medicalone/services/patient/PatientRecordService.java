@@ -1,6 +1,7 @@
 package br.com.senai.medicalone.services.patient;
 
 import br.com.senai.medicalone.dtos.appointment.AppointmentResponseDTO;
+import br.com.senai.medicalone.dtos.exam.ExamResponseDTO;
 import br.com.senai.medicalone.dtos.patient.PatientRecordDTO;
 import br.com.senai.medicalone.entities.patient.Patient;
 import br.com.senai.medicalone.exceptions.customexceptions.PatientNotFoundException;
@@ -8,21 +9,37 @@ import br.com.senai.medicalone.mappers.patient.PatientRecordMapper;
 import br.com.senai.medicalone.repositories.patient.PatientRepository;
 import br.com.senai.medicalone.services.exam.ExamService;
 import br.com.senai.medicalone.services.appointment.AppointmentService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.SpecHints;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class PatientRecordService {
 
+    private static final int EXPORT_BATCH_SIZE = 500;
+
     @Autowired
     private PatientRepository patientRepository;
 
@@ -35,11 +52,18 @@ public class PatientRecordService {
     @Autowired
     private PatientRecordMapper patientRecordMapper;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Operation(summary = "Obter prontuário do paciente", description = "Método para obter o prontuário de um paciente pelo ID")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Prontuário encontrado com sucesso"),
             @ApiResponse(responseCode = "404", description = "Paciente não encontrado")
     })
+    @Transactional(readOnly = true)
     public PatientRecordDTO getPatientRecord(Long patientId) {
         var patient = patientRepository.findById(patientId)
                 .orElseThrow(() -> new PatientNotFoundException("Paciente não encontrado com ID: " + patientId));
@@ -52,15 +76,67 @@ public class PatientRecordService {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Prontuários encontrados com sucesso")
     })
+    @Transactional(readOnly = true)
     public Page<PatientRecordDTO> getAllPatientRecords(String name, Long id, Pageable pageable) {
-        Page<Patient> patients = patientRepository.findAll(pageable);
+        Page<Patient> patients = patientRepository.findRecordsByFilter(id, name, pageable);
+        List<Long> patientIds = patients.stream()
+                .map(Patient::getId)
+                .collect(Collectors.toList());
+        if (patientIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, patients.getTotalElements());
+        }
+        Map<Long, List<ExamResponseDTO>> exams = examService.getExamsByPatientIds(patientIds);
+        Map<Long, List<AppointmentResponseDTO>> appointments = appointmentService.getAppointmentsByPatientIds(patientIds);
         List<PatientRecordDTO> records = patients.stream()
-                .map(patient -> {
-                    var exams = examService.getExamsByPatientId(patient.getId(), Pageable.unpaged()).getContent();
-                    var appointments = appointmentService.getAppointmentsByPatientId(patient.getId(), Pageable.unpaged()).getContent();
-                    return patientRecordMapper.toDTO(patient, exams, appointments);
-                })
+                .map(patient -> patientRecordMapper.toDTO(patient,
+                        exams.getOrDefault(patient.getId(), List.of()),
+                        appointments.getOrDefault(patient.getId(), List.of())))
                 .collect(Collectors.toList());
         return new PageImpl<>(records, pageable, patients.getTotalElements());
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "Exportar todos os prontuários", description = "Método para exportar todos os prontuários em NDJSON, um paciente por linha, lendo os pacientes por cursor")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Prontuários exportados com sucesso")
+    })
+    @Transactional(readOnly = true)
+    public long exportPatientRecords(OutputStream outputStream) throws IOException {
+        long exported = 0;
+        entityManager.setProperty(SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, CacheRetrieveMode.BYPASS);
+        entityManager.setProperty(SpecHints.HINT_SPEC_CACHE_STORE_MODE, CacheStoreMode.BYPASS);
+        try (Stream<Patient> patients = patientRepository.streamAllForExport();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            List<Patient> batch = new ArrayList<>(EXPORT_BATCH_SIZE);
+            Iterator<Patient> iterator = patients.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == EXPORT_BATCH_SIZE) {
+                    exported += writeBatch(batch, generator);
+                    batch.clear();
+                    entityManager.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                exported += writeBatch(batch, generator);
+            }
+        }
+        return exported;
+    }
+
+    private int writeBatch(List<Patient> batch, JsonGenerator generator) throws IOException {
+        List<Long> patientIds = batch.stream()
+                .map(Patient::getId)
+                .collect(Collectors.toList());
+        Map<Long, List<ExamResponseDTO>> exams = examService.getExamsByPatientIds(patientIds);
+        Map<Long, List<AppointmentResponseDTO>> appointments = appointmentService.getAppointmentsByPatientIds(patientIds);
+        for (Patient patient : batch) {
+            generator.writeObject(patientRecordMapper.toDTO(patient,
+                    exams.getOrDefault(patient.getId(), List.of()),
+                    appointments.getOrDefault(patient.getId(), List.of())));
+            generator.writeRaw('\n');
+        }
+        generator.flush();
+        return batch.size();
+    }
+}
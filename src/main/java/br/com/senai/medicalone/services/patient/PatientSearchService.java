@@ -0,0 +1,234 @@
+package br.com.senai.medicalone.services.patient;
+
+import br.com.senai.medicalone.dtos.patient.PatientFacetValueDTO;
+import br.com.senai.medicalone.dtos.patient.PatientSearchFilterDTO;
+import br.com.senai.medicalone.dtos.patient.PatientSearchResultDTO;
+import br.com.senai.medicalone.dtos.patient.PatientSummaryDTO;
+import br.com.senai.medicalone.exceptions.customexceptions.BadRequestException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+@Service
+public class PatientSearchService {
+
+    public static final String VALID = "vigente";
+    public static final String EXPIRED = "vencido";
+    public static final String WITHOUT_VALIDITY = "sem_validade";
+
+    private static final String PATIENT_ROW = "patient";
+    private static final String TOTAL = "total";
+    private static final Set<String> VALIDITY_STATUSES = Set.of(VALID, EXPIRED, WITHOUT_VALIDITY);
+
+    private static final Map<String, String> FACET_COLUMNS = facetColumns();
+    private static final String FILTERED = "filtered f";
+
+    private static final String NULL_ROW_COLUMNS =
+            "CAST(NULL AS BIGINT), CAST(NULL AS VARCHAR(255)), CAST(NULL AS VARCHAR(255)), " +
+            "CAST(NULL AS VARCHAR(255)), CAST(NULL AS VARCHAR(255)), CAST(NULL AS VARCHAR(255)), CAST(NULL AS BIGINT)";
+
+    private static final String PAGE_SELECT =
+            "SELECT '" + PATIENT_ROW + "' AS facet, CAST(NULL AS VARCHAR(255)) AS facet_value, CAST(NULL AS BIGINT) AS total, " +
+            "pg.id, pg.full_name, pg.cpf, pg.phone, pg.email, pg.health_insurance, " +
+            "ROW_NUMBER() OVER (ORDER BY pg.full_name, pg.id) AS position ";
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private volatile Boolean postgreSQL;
+
+    @Operation(summary = "Busca facetada de pacientes", description = "Método para obter uma página de pacientes filtrada por " +
+                                                                      "termo, cidade, estado, convênio, gênero e validade do " +
+                                                                      "convênio, com as contagens por faceta na mesma consulta")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Pacientes encontrados com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Situação do convênio inválida")
+    })
+    @Transactional(readOnly = true)
+    public PatientSearchResultDTO search(PatientSearchFilterDTO filter, Pageable pageable) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("today", Date.valueOf(LocalDate.now()))
+                .addValue("limit", pageable.getPageSize())
+                .addValue("offset", pageable.getOffset());
+        Map<String, String> facetConditions = facetConditions(filter, parameters);
+        String searchCondition = searchCondition(filter, parameters);
+        String filtered = "SELECT p.id, p.full_name, p.cpf, p.phone, p.email, p.health_insurance, p.city, p.state, p.gender, " +
+                "CASE WHEN p.health_insurance_validity IS NULL THEN '" + WITHOUT_VALIDITY + "' " +
+                "WHEN p.health_insurance_validity >= :today THEN '" + VALID + "' " +
+                "ELSE '" + EXPIRED + "' END AS insurance_validity" +
+                facetConditions.entrySet().stream()
+                        .map(entry -> ", CASE WHEN " + entry.getValue() + " THEN 1 ELSE 0 END AS " + matchColumn(entry.getKey()))
+                        .collect(Collectors.joining()) +
+                " FROM tb_pacients p WHERE " + searchCondition + " AND " + facetRows(facetConditions);
+        String page = PAGE_SELECT + "FROM (SELECT p.id, p.full_name, p.cpf, p.phone, p.email, p.health_insurance " +
+                "FROM tb_pacients p WHERE " + searchCondition + " AND " + conjunction(facetConditions, null) +
+                " ORDER BY p.full_name, p.id LIMIT :limit OFFSET :offset) pg ";
+        String sql = isPostgreSQL()
+                ? "WITH filtered AS (" + filtered + ") " + page + "UNION ALL " + groupingSetsFacets(facetConditions)
+                : (page + "UNION ALL " + unionFacets(facetConditions)).replace(FILTERED, "(" + filtered + ") f");
+
+        Map<Long, PatientSummaryDTO> positions = new TreeMap<>();
+        Map<String, List<PatientFacetValueDTO>> facets = new LinkedHashMap<>();
+        FACET_COLUMNS.keySet().forEach(facet -> facets.put(facet, new ArrayList<>()));
+        long[] total = {0};
+        jdbcTemplate.query(sql, parameters, resultSet -> {
+            String facet = resultSet.getString("facet");
+            if (PATIENT_ROW.equals(facet)) {
+                positions.put(resultSet.getLong("position"), new PatientSummaryDTO(
+                        resultSet.getLong("id"),
+                        resultSet.getString("full_name"),
+                        resultSet.getString("cpf"),
+                        resultSet.getString("phone"),
+                        resultSet.getString("email"),
+                        resultSet.getString("health_insurance")));
+            } else if (TOTAL.equals(facet)) {
+                total[0] = resultSet.getLong("total");
+            } else {
+                facets.get(facet).add(new PatientFacetValueDTO(resultSet.getString("facet_value"), resultSet.getLong("total")));
+            }
+        });
+        facets.values().forEach(values -> values.sort(Comparator.comparingLong(PatientFacetValueDTO::getCount).reversed()
+                .thenComparing(PatientFacetValueDTO::getValue, Comparator.nullsLast(Comparator.naturalOrder()))));
+        return new PatientSearchResultDTO(new PageImpl<>(new ArrayList<>(positions.values()), pageable, total[0]), facets);
+    }
+
+    private String searchCondition(PatientSearchFilterDTO filter, MapSqlParameterSource parameters) {
+        if (!hasText(filter.getSearchTerm())) {
+            return "1 = 1";
+        }
+        parameters.addValue("searchTerm", "%" + filter.getSearchTerm().trim() + "%");
+        return "(p.full_name ILIKE :searchTerm OR p.phone ILIKE :searchTerm OR p.email ILIKE :searchTerm)";
+    }
+
+    private Map<String, String> facetConditions(PatientSearchFilterDTO filter, MapSqlParameterSource parameters) {
+        Map<String, String> conditions = new LinkedHashMap<>();
+        addEquality(conditions, parameters, "city", filter.getCity());
+        addEquality(conditions, parameters, "state", filter.getState());
+        addEquality(conditions, parameters, "health_insurance", filter.getHealthInsurance());
+        addEquality(conditions, parameters, "gender", filter.getGender());
+        if (hasText(filter.getInsuranceValidity())) {
+            String status = filter.getInsuranceValidity().trim().toLowerCase(Locale.ROOT);
+            if (!VALIDITY_STATUSES.contains(status)) {
+                throw new BadRequestException("Situação do convênio inválida: use vigente, vencido ou sem_validade");
+            }
+            conditions.put("insurance_validity", switch (status) {
+                case VALID -> "p.health_insurance_validity >= :today";
+                case EXPIRED -> "p.health_insurance_validity < :today";
+                default -> "p.health_insurance_validity IS NULL";
+            });
+        }
+        return conditions;
+    }
+
+    private void addEquality(Map<String, String> conditions, MapSqlParameterSource parameters, String column, String value) {
+        if (hasText(value)) {
+            conditions.put(column, "p." + column + " = :" + column);
+            parameters.addValue(column, value.trim());
+        }
+    }
+
+    private boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private boolean isPostgreSQL() {
+        if (postgreSQL == null) {
+            String databaseProductName = jdbcTemplate.getJdbcTemplate().execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            postgreSQL = "PostgreSQL".equalsIgnoreCase(databaseProductName);
+        }
+        return postgreSQL;
+    }
+
+    // cada faceta é contada com todos os filtros exceto o seu, para que as demais opções continuem visíveis
+    private static String matching(Map<String, String> facetConditions, String excludedColumn) {
+        String matching = facetConditions.keySet().stream()
+                .filter(column -> !column.equals(excludedColumn))
+                .map(column -> "f." + matchColumn(column) + " = 1")
+                .collect(Collectors.joining(" AND "));
+        return matching.isEmpty() ? "1 = 1" : matching;
+    }
+
+    private static String conjunction(Map<String, String> facetConditions, String excludedColumn) {
+        String conjunction = facetConditions.entrySet().stream()
+                .filter(entry -> !entry.getKey().equals(excludedColumn))
+                .map(Map.Entry::getValue)
+                .collect(Collectors.joining(" AND "));
+        return conjunction.isEmpty() ? "1 = 1" : "(" + conjunction + ")";
+    }
+
+    // só entram as linhas que alguma faceta conta: as que falham em no máximo um dos filtros, o que permite ao
+    // planejador combinar os índices das facetas em vez de percorrer a tabela inteira
+    private static String facetRows(Map<String, String> facetConditions) {
+        if (facetConditions.size() < 2) {
+            return "1 = 1";
+        }
+        return facetConditions.keySet().stream()
+                .map(column -> conjunction(facetConditions, column))
+                .collect(Collectors.joining(" OR ", "(", ")"));
+    }
+
+    private static String matchColumn(String column) {
+        return "matches_" + column;
+    }
+
+    private static String groupingSetsFacets(Map<String, String> facetConditions) {
+        String facet = FACET_COLUMNS.entrySet().stream()
+                .map(entry -> "WHEN GROUPING(f." + entry.getValue() + ") = 0 THEN '" + entry.getKey() + "' ")
+                .collect(Collectors.joining("", "CASE ", "ELSE '" + TOTAL + "' END"));
+        String value = FACET_COLUMNS.values().stream()
+                .map(column -> "f." + column)
+                .collect(Collectors.joining(", ", "COALESCE(", ")"));
+        String count = FACET_COLUMNS.values().stream()
+                .map(column -> "WHEN GROUPING(f." + column + ") = 0 " +
+                        "THEN COUNT(*) FILTER (WHERE " + matching(facetConditions, column) + ") ")
+                .collect(Collectors.joining("", "CASE ", "ELSE COUNT(*) FILTER (WHERE " + matching(facetConditions, null) + ") END"));
+        String groupingSets = FACET_COLUMNS.values().stream()
+                .map(column -> "(f." + column + ")")
+                .collect(Collectors.joining(", ", "GROUPING SETS (", ", ())"));
+        String totalRow = FACET_COLUMNS.values().stream()
+                .map(column -> "f." + column)
+                .collect(Collectors.joining(", ", "GROUPING(", ") = " + ((1 << FACET_COLUMNS.size()) - 1)));
+        return "SELECT " + facet + ", " + value + ", " + count + ", " + NULL_ROW_COLUMNS + " " +
+                "FROM " + FILTERED + " GROUP BY " + groupingSets + " HAVING " + count + " > 0 OR " + totalRow;
+    }
+
+    private static String unionFacets(Map<String, String> facetConditions) {
+        return FACET_COLUMNS.entrySet().stream()
+                .map(entry -> "SELECT '" + entry.getKey() + "', f." + entry.getValue() + ", COUNT(*), " + NULL_ROW_COLUMNS + " " +
+                        "FROM " + FILTERED + " WHERE " + matching(facetConditions, entry.getValue()) +
+                        " GROUP BY f." + entry.getValue() + " UNION ALL ")
+                .collect(Collectors.joining("", "", "SELECT '" + TOTAL + "', NULL, COUNT(*), " + NULL_ROW_COLUMNS +
+                        " FROM " + FILTERED + " WHERE " + matching(facetConditions, null)));
+    }
+
+    private static Map<String, String> facetColumns() {
+        Map<String, String> columns = new LinkedHashMap<>();
+        columns.put("city", "city");
+        columns.put("state", "state");
+        columns.put("healthInsurance", "health_insurance");
+        columns.put("gender", "gender");
+        columns.put("insuranceValidity", "insurance_validity");
+        return columns;
+    }
+}
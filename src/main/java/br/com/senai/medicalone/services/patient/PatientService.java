@@ -1,7 +1,11 @@
 package br.com.senai.medicalone.services.patient;
 
+import br.com.senai.medicalone.config.cache.InvalidationBus;
+import br.com.senai.medicalone.config.data.TrigramSearchSupport;
+import br.com.senai.medicalone.config.security.UserDetailsCache;
 import br.com.senai.medicalone.dtos.patient.PatientRequestDTO;
 import br.com.senai.medicalone.dtos.patient.PatientResponseDTO;
+import br.com.senai.medicalone.dtos.patient.PatientSummaryDTO;
 import br.com.senai.medicalone.dtos.user.UserRequestDTO;
 import br.com.senai.medicalone.dtos.user.UserResponseDTO;
 import br.com.senai.medicalone.entities.patient.Patient;
@@ -16,24 +20,36 @@ import br.com.senai.medicalone.repositories.patient.PatientRepository;
 import br.com.senai.medicalone.repositories.user.PreRegisterUserRepository;
 import br.com.senai.medicalone.repositories.user.UserRepository;
 import br.com.senai.medicalone.services.user.UserService;
+import br.com.senai.medicalone.utils.PhoneticEncoder;
+import br.com.senai.medicalone.utils.TextNormalizer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
 public class PatientService {
 
+    public static final String NAME_MODE_CONTAINS = "contains";
+    public static final String NAME_MODE_NORMALIZED = "normalized";
+    public static final String NAME_MODE_PHONETIC = "phonetic";
+
     @Autowired
     private PatientRepository patientRepository;
 
@@ -52,6 +68,15 @@ public class PatientService {
     @Autowired
     private PreRegisterUserRepository preRegisterUserRepository;
 
+    @Autowired
+    private TrigramSearchSupport trigramSearchSupport;
+
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
     @Operation(summary = "Criar um novo paciente", description = "Método para criar um novo paciente")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "Paciente criado com sucesso"),
@@ -100,6 +125,9 @@ public class PatientService {
         User user = patient.getUser();
         user.setPatientId(patient.getId());
         userRepository.save(user);
+        userDetailsCache.evict(user.getEmail(), user.getId());
+        invalidationBus.publish(InvalidationBus.PATIENT, patient.getId());
+        invalidationBus.publish(InvalidationBus.USER, user.getId());
 
         return patientMapper.toResponseDTO(patient);
     }
@@ -108,11 +136,16 @@ public class PatientService {
         return value != null ? value.replaceAll("\\D", "") : null;
     }
 
+    private String prefixEnd(String prefix) {
+        return prefix.substring(0, prefix.length() - 1) + (char) (prefix.charAt(prefix.length() - 1) + 1);
+    }
+
     @Operation(summary = "Obter paciente pelo ID", description = "Método para obter um paciente pelo ID")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Paciente encontrado com sucesso"),
             @ApiResponse(responseCode = "404", description = "Paciente não encontrado")
     })
+    @Transactional(readOnly = true)
     public PatientResponseDTO getPatientById(Long id) {
         Optional<Patient> patient = patientRepository.findById(id);
         if (patient.isPresent()) {
@@ -133,12 +166,11 @@ public class PatientService {
 
         Optional<Patient> patientOptional = patientRepository.findById(id);
         if (patientOptional.isPresent()) {
-            Patient existingPatient = patientOptional.get();
-            Patient updatedPatient = patientMapper.toEntity(patientRequestDTO);
-            updatedPatient.setId(id);
-            updatedPatient.setPassword(existingPatient.getPassword());
-            updatedPatient = patientRepository.save(updatedPatient);
-            return patientMapper.toResponseDTO(updatedPatient);
+            Patient patient = patientOptional.get();
+            patientMapper.updateEntity(patientRequestDTO, patient);
+            patient = patientRepository.save(patient);
+            invalidationBus.publish(InvalidationBus.PATIENT, id);
+            return patientMapper.toResponseDTO(patient);
         } else {
             throw new PatientNotFoundException("Paciente não encontrado com ID: " + id);
         }
@@ -151,16 +183,19 @@ public class PatientService {
     })
     @Transactional
     public boolean deletePatient(Long id) {
-        Optional<Patient> patientOptional = patientRepository.findById(id);
+        Optional<Patient> patientOptional = patientRepository.findForDeleteById(id);
         if (patientOptional.isPresent()) {
             Patient patient = patientOptional.get();
-            if (!patient.getExams().isEmpty() || !patient.getAppointments().isEmpty()) {
+            if (patientRepository.hasLinkedRecords(id)) {
                 throw new PatientHasLinkedRecordsException("Paciente possui exames ou consultas vinculadas");
             }
             User user = patient.getUser();
-            patientRepository.deleteById(id);
+            patientRepository.delete(patient);
+            invalidationBus.publish(InvalidationBus.PATIENT, id);
             if (user != null) {
                 userRepository.delete(user);
+                userDetailsCache.evict(user.getEmail(), user.getId());
+                invalidationBus.publish(InvalidationBus.USER, user.getId());
             }
             return true;
         } else {
@@ -172,6 +207,7 @@ public class PatientService {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Pacientes encontrados com sucesso")
     })
+    @Transactional(readOnly = true)
     public Page<PatientResponseDTO> getAllPatients(Pageable pageable) {
         Page<Patient> patients = patientRepository.findAll(pageable);
         return patients.map(patientMapper::toResponseDTO);
@@ -182,13 +218,55 @@ public class PatientService {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Pacientes encontrados com sucesso")
     })
-    public Page<PatientResponseDTO> getAllPatientsFiltered(String searchTerm,
-                                                           Pageable pageable) {
-        Page<Patient> patients = patientRepository.findByFilter(searchTerm, pageable);
-        return patients.map(patientMapper::toResponseDTO);
+    @Transactional(readOnly = true)
+    public Page<PatientSummaryDTO> getAllPatientsFiltered(String searchTerm,
+                                                          Pageable pageable) {
+        if (searchTerm != null && !searchTerm.isBlank() && trigramSearchSupport.isTrigramSearchAvailable()) {
+            return patientRepository.findSummariesByTrigramFilter(searchTerm, pageable);
+        }
+        return patientRepository.findSummariesByFilter(searchTerm, pageable);
+    }
+
+    @Operation(summary = "Obter pacientes por alergia", description = "Método para obter pacientes alérgicos a uma " +
+                                                                       "substância, comparando termos sem acentos e em minúsculas")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Pacientes encontrados com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Substância não informada")
+    })
+    @Transactional(readOnly = true)
+    public Page<PatientSummaryDTO> getPatientsByAllergy(String substance, Pageable pageable) {
+        String term = TextNormalizer.normalize(substance);
+        if (term == null || term.isEmpty()) {
+            throw new BadRequestException("Substância é obrigatória");
+        }
+        return patientRepository.findSummariesByAllergyTerm(term, pageable);
+    }
+
+    @Operation(summary = "Percorrer pacientes por cursor", description = "Método para obter pacientes com paginação por " +
+                                                                          "cursor (nome completo, ID), sem contagem total")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Pacientes encontrados com sucesso")
+    })
+    @Transactional(readOnly = true)
+    public Window<PatientSummaryDTO> scrollPatientsFiltered(String searchTerm, KeysetScrollPosition position, int size) {
+        Map<String, Object> keys = position.getKeys();
+        if (!keys.isEmpty() && !(keys.get("fullName") instanceof String && keys.get("id") instanceof Long)) {
+            throw new BadRequestException("Cursor inválido");
+        }
+        String term = searchTerm != null && !searchTerm.isBlank() ? searchTerm : null;
+        List<PatientSummaryDTO> rows = patientRepository.findSummariesAfter(term, (String) keys.get("fullName"),
+                (Long) keys.get("id"), Limit.of(size + 1));
+        boolean hasNext = rows.size() > size;
+        List<PatientSummaryDTO> content = hasNext ? rows.subList(0, size) : rows;
+        return Window.from(content, index -> {
+            Map<String, Object> lastKeys = new LinkedHashMap<>();
+            lastKeys.put("fullName", content.get(index).getFullName());
+            lastKeys.put("id", content.get(index).getId());
+            return ScrollPosition.forward(lastKeys);
+        }, hasNext);
     }
 
-    private void validatePatientRequestDTO(PatientRequestDTO patientRequestDTO) {
+    void validatePatientRequestDTO(PatientRequestDTO patientRequestDTO) {
         if (patientRequestDTO.getFullName() == null || patientRequestDTO.getFullName().isEmpty()) {
             throw new BadRequestException("dados ausentes: fullName");
         }
@@ -244,6 +322,7 @@ public class PatientService {
             @ApiResponse(responseCode = "200", description = "Paciente encontrado com sucesso"),
             @ApiResponse(responseCode = "404", description = "Paciente não encontrado")
     })
+    @Transactional(readOnly = true)
     public PatientResponseDTO getPatientByCpf(String cpf) {
         Patient patient = patientRepository.findByCpf(cpf);
         if (patient != null) {
@@ -258,8 +337,33 @@ public class PatientService {
             @ApiResponse(responseCode = "200", description = "Pacientes encontrados com sucesso"),
             @ApiResponse(responseCode = "404", description = "Pacientes não encontrados")
     })
+    @Transactional(readOnly = true)
     public List<PatientResponseDTO> getPatientsByName(String name) {
-        List<Patient> patients = patientRepository.findByName(name.trim());
+        return getPatientsByName(name, NAME_MODE_CONTAINS);
+    }
+
+    @Operation(summary = "Obter pacientes pelo nome em um modo de busca", description = "Método para obter pacientes pelo " +
+                                                                                      "nome contido, pelo prefixo do nome " +
+                                                                                      "normalizado ou pelo prefixo da chave fonética")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Pacientes encontrados com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Modo de busca inválido"),
+            @ApiResponse(responseCode = "404", description = "Pacientes não encontrados")
+    })
+    @Transactional(readOnly = true)
+    public List<PatientResponseDTO> getPatientsByName(String name, String mode) {
+        List<Patient> patients = switch (mode == null ? NAME_MODE_CONTAINS : mode) {
+            case NAME_MODE_CONTAINS -> patientRepository.findByName(name.trim());
+            case NAME_MODE_NORMALIZED -> {
+                String prefix = TextNormalizer.normalize(name);
+                yield prefix.isEmpty() ? List.of() : patientRepository.findByNameKeyRange(prefix, prefixEnd(prefix));
+            }
+            case NAME_MODE_PHONETIC -> {
+                String prefix = PhoneticEncoder.encodePrefix(name);
+                yield prefix.isEmpty() ? List.of() : patientRepository.findByNamePhoneticRange(prefix, prefixEnd(prefix));
+            }
+            default -> throw new BadRequestException("Modo de busca inválido: use contains, normalized ou phonetic");
+        };
         if (!patients.isEmpty()) {
             return patients.stream().map(patientMapper::toResponseDTO).collect(Collectors.toList());
         } else {
@@ -272,6 +376,7 @@ public class PatientService {
             @ApiResponse(responseCode = "200", description = "Pacientes encontrados com sucesso"),
             @ApiResponse(responseCode = "404", description = "Pacientes não encontrados")
     })
+    @Transactional(readOnly = true)
     public List<PatientResponseDTO> getPatientsByPhone(String phone) {
         List<Patient> patients = patientRepository.findByPhone(phone);
         if (!patients.isEmpty()) {
@@ -286,6 +391,7 @@ public class PatientService {
             @ApiResponse(responseCode = "200", description = "Paciente encontrado com sucesso"),
             @ApiResponse(responseCode = "404", description = "Paciente não encontrado")
     })
+    @Transactional(readOnly = true)
     public PatientResponseDTO getPatientByEmail(String email) {
         Patient patient = patientRepository.findByEmail(email);
         if (patient != null) {
@@ -294,4 +400,4 @@ public class PatientService {
             throw new PatientNotFoundException("Paciente não encontrado com email: " + email);
         }
     }
-}
\ No newline at end of file
+}
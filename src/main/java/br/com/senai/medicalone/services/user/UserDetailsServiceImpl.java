@@ -1,5 +1,7 @@
 package br.com.senai.medicalone.services.user;
 
+import br.com.senai.medicalone.config.security.AuthenticatedUser;
+import br.com.senai.medicalone.config.security.UserDetailsCache;
 import br.com.senai.medicalone.entities.user.PreRegisterUser;
 import br.com.senai.medicalone.entities.user.User;
 import br.com.senai.medicalone.repositories.user.PreRegisterUserRepository;
@@ -9,31 +11,45 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class UserDetailsServiceImpl implements UserDetailsService {
 
     private final UserRepository userRepository;
     private final PreRegisterUserRepository preRegisterUserRepository;
+    private final UserDetailsCache userDetailsCache;
 
     @Autowired
-    public UserDetailsServiceImpl(UserRepository userRepository, PreRegisterUserRepository preRegisterUserRepository) {
+    public UserDetailsServiceImpl(UserRepository userRepository, PreRegisterUserRepository preRegisterUserRepository,
+                                  UserDetailsCache userDetailsCache) {
         this.userRepository = userRepository;
         this.preRegisterUserRepository = preRegisterUserRepository;
+        this.userDetailsCache = userDetailsCache;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        AuthenticatedUser cached = userDetailsCache.get(username);
+        if (cached != null) {
+            return cached;
+        }
+
         User user = userRepository.findByEmail(username)
                 .orElse(null);
 
         if (user != null) {
-            return user;
+            AuthenticatedUser authenticatedUser = AuthenticatedUser.of(user);
+            userDetailsCache.put(username, authenticatedUser);
+            return authenticatedUser;
         }
 
         PreRegisterUser preRegisterUser = preRegisterUserRepository.findByEmail(username)
                 .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado com o email: " + username));
 
-        return preRegisterUser;
+        AuthenticatedUser authenticatedUser = AuthenticatedUser.of(preRegisterUser);
+        userDetailsCache.put(username, authenticatedUser);
+        return authenticatedUser;
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package br.com.senai.medicalone.services.user;
 
+import br.com.senai.medicalone.config.cache.InvalidationBus;
+import br.com.senai.medicalone.config.security.UserDetailsCache;
 import br.com.senai.medicalone.dtos.user.UserRequestDTO;
 import br.com.senai.medicalone.dtos.user.UserResponseDTO;
 import br.com.senai.medicalone.dtos.user.UserUpdateRequestDTO;
@@ -14,15 +16,19 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -36,15 +42,20 @@ public class UserService {
     private final PreRegisterUserRepository preRegisterUserRepository;
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
+    private final UserDetailsCache userDetailsCache;
+    private final InvalidationBus invalidationBus;
 
     @Autowired
     public UserService(UserRepository userRepository, PreRegisterUserRepository preRegisterUserRepository,
-                       PasswordEncoder passwordEncoder, AuthenticationManager authenticationManager, JwtUtil jwtUtil) {
+                       PasswordEncoder passwordEncoder, AuthenticationManager authenticationManager, JwtUtil jwtUtil,
+                       UserDetailsCache userDetailsCache, InvalidationBus invalidationBus) {
         this.userRepository = userRepository;
         this.preRegisterUserRepository = preRegisterUserRepository;
         this.passwordEncoder = passwordEncoder;
         this.authenticationManager = authenticationManager;
         this.jwtUtil = jwtUtil;
+        this.userDetailsCache = userDetailsCache;
+        this.invalidationBus = invalidationBus;
     }
 
     @Operation(summary = "Criar um novo usuário", description = "Método para criar um novo usuário")
@@ -74,6 +85,7 @@ public class UserService {
         }
 
         User savedUser = userRepository.save(user);
+        invalidationBus.publish(InvalidationBus.USER, savedUser.getId());
         return convertToUserResponseDTO(savedUser);
     }
 
@@ -96,6 +108,8 @@ public class UserService {
 
         User user = convertPreRegisterUserToUser(savedPreRegisterUser);
         userRepository.save(user);
+        userDetailsCache.evict(user.getEmail(), user.getId());
+        invalidationBus.publish(InvalidationBus.USER, user.getId());
 
         return savedPreRegisterUser;
     }
@@ -163,6 +177,8 @@ public class UserService {
             }
         }
 
+        String previousEmail = user.getEmail();
+
         if (updatedUserDTO.getName() != null) {
             user.setName(updatedUserDTO.getName());
         }
@@ -180,6 +196,9 @@ public class UserService {
         }
 
         User updatedUser = userRepository.save(user);
+        userDetailsCache.evict(previousEmail, id);
+        userDetailsCache.evict(updatedUser.getEmail(), id);
+        invalidationBus.publish(InvalidationBus.USER, id);
         return convertToUserResponseDTO(updatedUser);
     }
 
@@ -198,12 +217,15 @@ public class UserService {
         }
 
         userRepository.delete(user);
+        userDetailsCache.evict(user.getEmail(), id);
+        invalidationBus.publish(InvalidationBus.USER, id);
     }
 
     @Operation(summary = "Obter todos os usuários", description = "Método para obter todos os usuários")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Usuários encontrados com sucesso")
     })
+    @Transactional(readOnly = true)
     public Page<UserResponseDTO> findAllUsers(Pageable pageable) {
         Page<User> usersPage = userRepository.findAll(pageable);
         List<UserResponseDTO> filteredUsers = usersPage.stream()
@@ -217,6 +239,7 @@ public class UserService {
             @ApiResponse(responseCode = "200", description = "Usuário encontrado com sucesso"),
             @ApiResponse(responseCode = "404", description = "Usuário não encontrado")
     })
+    @Transactional(readOnly = true)
     public UserResponseDTO findUserById(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new UserNotFoundException("Usuário não encontrado"));
@@ -270,6 +293,8 @@ public class UserService {
 
         user.setPassword(passwordEncoder.encode(newPassword));
         userRepository.save(user);
+        userDetailsCache.evict(email, user.getId());
+        invalidationBus.publish(InvalidationBus.USER, user.getId());
     }
 
     private UserResponseDTO convertToUserResponseDTO(User user) {
@@ -287,10 +312,12 @@ public class UserService {
     }
 
 
+    @Transactional(readOnly = true)
     public Optional<User> findById(Long id) {
         return userRepository.findById(id);
     }
 
+    @Transactional(readOnly = true)
     public Optional<User> findByUsername(String username) {
         return userRepository.findByEmail(username);
     }
@@ -308,6 +335,7 @@ public class UserService {
         return user;
     }
 
+    @Transactional(readOnly = true)
     public Page<UserResponseDTO> findAllUsers(Pageable pageable, Long id, String name, String email) {
         Page<User> usersPage;
         if (id != null || name != null || email != null) {
@@ -317,4 +345,15 @@ public class UserService {
         }
         return usersPage.map(this::convertToUserResponseDTO);
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "Percorrer usuários por cursor", description = "Método para obter usuários com paginação por cursor (email, ID), sem contagem total")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Usuários encontrados com sucesso")
+    })
+    @Transactional(readOnly = true)
+    public Window<UserResponseDTO> scrollUsers(KeysetScrollPosition position, int size, Long id, String name, String email) {
+        Window<User> users = userRepository.findBy(UserRepository.matchesFilter(id, name, email),
+                query -> query.sortBy(Sort.by("email", "id")).limit(size).scroll(position));
+        return users.map(this::convertToUserResponseDTO);
+    }
+}
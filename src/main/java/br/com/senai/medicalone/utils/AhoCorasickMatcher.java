@@ -0,0 +1,96 @@
+package br.com.senai.medicalone.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+public class AhoCorasickMatcher<T> {
+
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private final List<List<Integer>> outputs = new ArrayList<>();
+    private final List<Integer> failures = new ArrayList<>();
+    private final List<Integer> lengths = new ArrayList<>();
+    private final List<T> values = new ArrayList<>();
+
+    public AhoCorasickMatcher(Map<String, T> patterns) {
+        addNode();
+        patterns.forEach((pattern, value) -> {
+            if (pattern != null && !pattern.isEmpty()) {
+                insert(pattern, value);
+            }
+        });
+        link();
+    }
+
+    public Set<T> findAll(String text) {
+        Set<T> matches = new LinkedHashSet<>();
+        if (text == null) {
+            return matches;
+        }
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            while (state != 0 && !transitions.get(state).containsKey(c)) {
+                state = failures.get(state);
+            }
+            state = transitions.get(state).getOrDefault(c, 0);
+            for (int pattern : outputs.get(state)) {
+                int start = i - lengths.get(pattern) + 1;
+                if (isBoundary(text, start - 1) && isBoundary(text, i + 1)) {
+                    matches.add(values.get(pattern));
+                }
+            }
+        }
+        return matches;
+    }
+
+    private void insert(String pattern, T value) {
+        int state = 0;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            Integer next = transitions.get(state).get(c);
+            if (next == null) {
+                next = addNode();
+                transitions.get(state).put(c, next);
+            }
+            state = next;
+        }
+        outputs.get(state).add(values.size());
+        lengths.add(pattern.length());
+        values.add(value);
+    }
+
+    private void link() {
+        Queue<Integer> queue = new ArrayDeque<>(transitions.get(0).values());
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (Map.Entry<Character, Integer> transition : transitions.get(state).entrySet()) {
+                int child = transition.getValue();
+                int fallback = failures.get(state);
+                while (fallback != 0 && !transitions.get(fallback).containsKey(transition.getKey())) {
+                    fallback = failures.get(fallback);
+                }
+                int failure = transitions.get(fallback).getOrDefault(transition.getKey(), 0);
+                failures.set(child, failure);
+                outputs.get(child).addAll(outputs.get(failure));
+                queue.add(child);
+            }
+        }
+    }
+
+    private int addNode() {
+        transitions.add(new HashMap<>());
+        outputs.add(new ArrayList<>());
+        failures.add(0);
+        return transitions.size() - 1;
+    }
+
+    private static boolean isBoundary(String text, int index) {
+        return index < 0 || index >= text.length() || !Character.isLetterOrDigit(text.charAt(index));
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.security.*;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.security.spec.X509EncodedKeySpec;
@@ -30,8 +31,12 @@ public class JwtUtil {
     @Value("${jwt.expiration}")
     private Long expiration;
 
+    @Value("${jwt.claims-cache.max-size:10000}")
+    private int claimsCacheMaxSize;
+
     private PrivateKey privateKey;
     private PublicKey publicKey;
+    private BoundedExpiringCache<String, Claims> verifiedClaims;
 
     @PostConstruct
     public void init() throws Exception {
@@ -64,6 +69,8 @@ public class JwtUtil {
             X509EncodedKeySpec publicKeySpec = new X509EncodedKeySpec(decodedPublicKey);
             publicKey = keyFactory.generatePublic(publicKeySpec);
         }
+
+        verifiedClaims = new BoundedExpiringCache<>(claimsCacheMaxSize);
     }
 
     public String generateToken(User user) {
@@ -97,9 +104,23 @@ public class JwtUtil {
     }
 
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String email = getEmailFromToken(token);
-        final String role = getRoleFromToken(token);
-        return (email.equals(userDetails.getUsername()) && role.equals(userDetails.getAuthorities().iterator().next().getAuthority()) && !isTokenExpired(token));
+        return validateClaims(getVerifiedClaims(token), userDetails);
+    }
+
+    public Boolean validateClaims(Claims claims, UserDetails userDetails) {
+        final String email = claims.getSubject();
+        final String role = claims.get("role", String.class);
+        return (email.equals(userDetails.getUsername()) && role.equals(userDetails.getAuthorities().iterator().next().getAuthority()) && !claims.getExpiration().before(new Date()));
+    }
+
+    public Claims getVerifiedClaims(String token) {
+        String key = hashToken(token);
+        Claims claims = verifiedClaims.get(key);
+        if (claims == null) {
+            claims = Jwts.parser().setSigningKey(publicKey).parseClaimsJws(token).getBody();
+            verifiedClaims.put(key, claims, claims.getExpiration().getTime());
+        }
+        return claims;
     }
 
     public String getRoleFromToken(String token) {
@@ -120,10 +141,15 @@ public class JwtUtil {
     }
 
     private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parser().setSigningKey(publicKey).parseClaimsJws(token).getBody();
+        return getVerifiedClaims(token);
     }
 
-    private Boolean isTokenExpired(String token) {
-        return getExpirationDateFromToken(token).before(new Date());
+    private String hashToken(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
\ No newline at end of file
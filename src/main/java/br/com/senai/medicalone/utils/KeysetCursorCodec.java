@@ -0,0 +1,73 @@
+package br.com.senai.medicalone.utils;
+
+import br.com.senai.medicalone.exceptions.customexceptions.BadRequestException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+public class KeysetCursorCodec {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public String encode(Window<?> window) {
+        if (!window.hasNext() || window.isEmpty()) {
+            return null;
+        }
+        ScrollPosition position = window.positionAt(window.size() - 1);
+        if (!(position instanceof KeysetScrollPosition keyset)) {
+            return null;
+        }
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(keyset.getKeys());
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Não foi possível gerar o cursor", e);
+        }
+    }
+
+    public KeysetScrollPosition decode(String cursor, Class<?> entityType) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(cursor);
+            Map<String, Object> raw = objectMapper.readValue(json, new TypeReference<Map<String, Object>>() {});
+            Map<String, Object> keys = new LinkedHashMap<>();
+            for (Map.Entry<String, Object> entry : raw.entrySet()) {
+                Field field = ReflectionUtils.findField(entityType, entry.getKey());
+                if (field == null || entry.getValue() == null) {
+                    throw new BadRequestException("Cursor inválido");
+                }
+                keys.put(entry.getKey(), objectMapper.convertValue(entry.getValue(), field.getType()));
+            }
+            return ScrollPosition.forward(keys);
+        } catch (IllegalArgumentException | IOException e) {
+            throw new BadRequestException("Cursor inválido");
+        }
+    }
+
+    public Map<String, Object> toPage(Window<?> window) {
+        Map<String, Object> page = new LinkedHashMap<>();
+        page.put("size", window.size());
+        page.put("hasNext", window.hasNext());
+        String nextCursor = encode(window);
+        if (nextCursor != null) {
+            page.put("nextCursor", nextCursor);
+        }
+        return page;
+    }
+}
@@ -0,0 +1,94 @@
+package br.com.senai.medicalone.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+public final class PhoneticEncoder {
+
+    private static final Set<String> PARTICLES = Set.of("d", "da", "das", "de", "di", "do", "dos", "e");
+    private static final Pattern NON_LETTERS = Pattern.compile("[^a-z]");
+    private static final List<String> OPEN_ENDINGS = List.of("sc", "xc", "c", "g", "p", "s", "x");
+
+    private PhoneticEncoder() {
+    }
+
+    public static String encode(String value) {
+        return encode(value, false);
+    }
+
+    public static String encodePrefix(String value) {
+        return encode(value, true);
+    }
+
+    private static String encode(String value, boolean prefix) {
+        String normalized = TextNormalizer.normalize(value);
+        if (normalized == null) {
+            return null;
+        }
+        String[] parts = normalized.split(" ");
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < parts.length; i++) {
+            String letters = NON_LETTERS.matcher(parts[i]).replaceAll("");
+            // o código das letras finais de uma palavra incompleta depende das letras que ainda faltam
+            if (prefix && i == parts.length - 1) {
+                letters = withoutOpenEnding(letters);
+            }
+            if (!letters.isEmpty() && !PARTICLES.contains(letters)) {
+                words.add(encodeWord(letters));
+            }
+        }
+        return String.join(" ", words);
+    }
+
+    private static String encodeWord(String word) {
+        String w = word.replace('y', 'i').replace('w', 'v')
+                .replace("ph", "f").replace("th", "t")
+                .replace("sch", "x").replace("ch", "x").replace("sh", "x")
+                .replace("lh", "l").replace("nh", "n");
+        StringBuilder encoded = new StringBuilder(w.length());
+        for (int i = 0; i < w.length(); i++) {
+            char c = w.charAt(i);
+            char next = charAt(w, i + 1);
+            char code = switch (c) {
+                case 'c' -> isFrontVowel(next) ? 's' : 'k';
+                case 'g' -> isFrontVowel(next) ? 'j' : 'g';
+                case 'q', 'k' -> 'k';
+                case 'z' -> 's';
+                case 'h' -> 0;
+                default -> c;
+            };
+            if ((c == 'q' || c == 'g') && next == 'u' && isFrontVowel(charAt(w, i + 2))) {
+                i++;
+            } else if ((c == 's' || c == 'x') && next == 'c' && isFrontVowel(charAt(w, i + 2))) {
+                code = 's';
+                i++;
+            }
+            if (code != 0 && (encoded.isEmpty() || encoded.charAt(encoded.length() - 1) != code)) {
+                encoded.append(code);
+            }
+        }
+        return encoded.toString();
+    }
+
+    private static String withoutOpenEnding(String word) {
+        if (word.endsWith("gu") || word.endsWith("qu")) {
+            return word.substring(0, word.length() - 1);
+        }
+        for (String ending : OPEN_ENDINGS) {
+            if (word.endsWith(ending)) {
+                return word.substring(0, word.length() - ending.length());
+            }
+        }
+        return word;
+    }
+
+    private static char charAt(String word, int index) {
+        return index < word.length() ? word.charAt(index) : 0;
+    }
+
+    private static boolean isFrontVowel(char c) {
+        return c == 'e' || c == 'i';
+    }
+}
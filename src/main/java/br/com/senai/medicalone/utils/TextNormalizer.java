@@ -0,0 +1,38 @@
+package br.com.senai.medicalone.utils;
+
+import java.text.Normalizer;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+public final class TextNormalizer {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private TextNormalizer() {
+    }
+
+    public static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        String stripped = DIACRITICS.matcher(decomposed).replaceAll("");
+        return WHITESPACE.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    public static List<String> normalizeAll(Collection<String> values) {
+        if (values == null) {
+            return null;
+        }
+        return values.stream()
+                .map(TextNormalizer::normalize)
+                .filter(Objects::nonNull)
+                .filter(value -> !value.isEmpty())
+                .distinct()
+                .toList();
+    }
+}
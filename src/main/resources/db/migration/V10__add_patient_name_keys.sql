@@ -0,0 +1,5 @@
+ALTER TABLE tb_pacients ADD COLUMN name_key VARCHAR(64);
+ALTER TABLE tb_pacients ADD COLUMN name_phonetic VARCHAR(64);
+
+CREATE INDEX IF NOT EXISTS idx_pacients_name_key ON tb_pacients (name_key, id);
+CREATE INDEX IF NOT EXISTS idx_pacients_name_phonetic ON tb_pacients (name_phonetic, id);
@@ -0,0 +1,110 @@
+CREATE SEQUENCE IF NOT EXISTS tb_users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tb_pre_register_users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tb_pacients_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tb_exams_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tb_appointments_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS tb_users (
+    id         BIGINT       NOT NULL,
+    name       VARCHAR(255),
+    email      VARCHAR(255) NOT NULL,
+    birth_date DATE,
+    cpf        VARCHAR(14),
+    phone      VARCHAR(20),
+    password   VARCHAR(255) NOT NULL,
+    role       VARCHAR(255) NOT NULL,
+    patient_id BIGINT,
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT uk_users_cpf UNIQUE (cpf),
+    CONSTRAINT ck_users_role CHECK (role IN ('MEDICO', 'ADMIN', 'PACIENTE'))
+);
+
+CREATE TABLE IF NOT EXISTS tb_pre_register_users (
+    id       BIGINT       NOT NULL,
+    email    VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    role     VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_pre_register_users PRIMARY KEY (id),
+    CONSTRAINT uk_pre_register_users_email UNIQUE (email),
+    CONSTRAINT ck_pre_register_users_role CHECK (role IN ('MEDICO', 'ADMIN', 'PACIENTE'))
+);
+
+CREATE TABLE IF NOT EXISTS tb_pacients (
+    id                        BIGINT       NOT NULL,
+    full_name                 VARCHAR(64)  NOT NULL,
+    gender                    VARCHAR(255) NOT NULL,
+    birth_date                DATE         NOT NULL,
+    cpf                       VARCHAR(14)  NOT NULL,
+    rg                        VARCHAR(20)  NOT NULL,
+    rg_issuer                 VARCHAR(10)  NOT NULL,
+    marital_status            VARCHAR(255) NOT NULL,
+    phone                     VARCHAR(20)  NOT NULL,
+    email                     VARCHAR(255) NOT NULL,
+    password                  VARCHAR(255) NOT NULL,
+    place_of_birth            VARCHAR(64)  NOT NULL,
+    emergency_contact         VARCHAR(20)  NOT NULL,
+    health_insurance          VARCHAR(255),
+    health_insurance_number   VARCHAR(255),
+    health_insurance_validity DATE,
+    zip_code                  VARCHAR(255),
+    city                      VARCHAR(255),
+    state                     VARCHAR(255),
+    street                    VARCHAR(255),
+    number                    VARCHAR(255),
+    complement                VARCHAR(255),
+    neighborhood              VARCHAR(255),
+    reference_point           VARCHAR(255),
+    user_id                   BIGINT,
+    CONSTRAINT pk_pacients PRIMARY KEY (id),
+    CONSTRAINT uk_pacients_cpf UNIQUE (cpf),
+    CONSTRAINT fk_pacients_user FOREIGN KEY (user_id) REFERENCES tb_users (id)
+);
+
+CREATE TABLE IF NOT EXISTS tb_patient_allergies (
+    patient_id BIGINT NOT NULL,
+    allergy    VARCHAR(255),
+    CONSTRAINT fk_patient_allergies_patient FOREIGN KEY (patient_id) REFERENCES tb_pacients (id)
+);
+
+CREATE TABLE IF NOT EXISTS tb_patient_specific_care (
+    patient_id    BIGINT NOT NULL,
+    specific_care VARCHAR(255),
+    CONSTRAINT fk_patient_specific_care_patient FOREIGN KEY (patient_id) REFERENCES tb_pacients (id)
+);
+
+CREATE TABLE IF NOT EXISTS tb_exams (
+    id           BIGINT      NOT NULL,
+    name         VARCHAR(64) NOT NULL,
+    exam_date    DATE        NOT NULL,
+    exam_time    TIME(6)     NOT NULL,
+    type         VARCHAR(32) NOT NULL,
+    laboratory   VARCHAR(32) NOT NULL,
+    document_url VARCHAR(255),
+    results      VARCHAR(255),
+    patient_id   BIGINT      NOT NULL,
+    CONSTRAINT pk_exams PRIMARY KEY (id),
+    CONSTRAINT fk_exams_patient FOREIGN KEY (patient_id) REFERENCES tb_pacients (id)
+);
+
+CREATE TABLE IF NOT EXISTS tb_appointments (
+    id                    BIGINT        NOT NULL,
+    appointment_reason    VARCHAR(64)   NOT NULL,
+    appointment_date      DATE          NOT NULL,
+    appointment_time      TIME(6)       NOT NULL,
+    problem_description   VARCHAR(1024) NOT NULL,
+    prescribed_medication VARCHAR(255),
+    observations          VARCHAR(255),
+    patient_id            BIGINT        NOT NULL,
+    CONSTRAINT pk_appointments PRIMARY KEY (id),
+    CONSTRAINT fk_appointments_patient FOREIGN KEY (patient_id) REFERENCES tb_pacients (id)
+);
+
+CREATE TABLE IF NOT EXISTS tb_dashboard_rollups (
+    metric          VARCHAR(20)  NOT NULL,
+    bucket_date     DATE         NOT NULL,
+    dimension       VARCHAR(20)  NOT NULL,
+    dimension_value VARCHAR(255) NOT NULL,
+    total           BIGINT       NOT NULL,
+    CONSTRAINT pk_dashboard_rollups PRIMARY KEY (bucket_date, dimension, dimension_value, metric)
+);
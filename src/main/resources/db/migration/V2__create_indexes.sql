@@ -0,0 +1,18 @@
+CREATE INDEX IF NOT EXISTS idx_pacients_user_id ON tb_pacients (user_id);
+CREATE INDEX IF NOT EXISTS idx_pacients_email ON tb_pacients (email);
+CREATE INDEX IF NOT EXISTS idx_pacients_phone ON tb_pacients (phone);
+CREATE INDEX IF NOT EXISTS idx_pacients_full_name_id ON tb_pacients (full_name, id);
+
+CREATE INDEX IF NOT EXISTS idx_patient_allergies_patient_id ON tb_patient_allergies (patient_id);
+CREATE INDEX IF NOT EXISTS idx_patient_specific_care_patient_id ON tb_patient_specific_care (patient_id);
+
+CREATE INDEX IF NOT EXISTS idx_users_phone ON tb_users (phone);
+
+CREATE INDEX IF NOT EXISTS idx_exams_patient_date_time ON tb_exams (patient_id, exam_date, exam_time);
+CREATE INDEX IF NOT EXISTS idx_exams_exam_date_id ON tb_exams (exam_date, id);
+CREATE INDEX IF NOT EXISTS idx_exams_name ON tb_exams (name);
+
+CREATE INDEX IF NOT EXISTS idx_appointments_patient_date_time ON tb_appointments (patient_id, appointment_date, appointment_time);
+CREATE INDEX IF NOT EXISTS idx_appointments_appointment_date_id ON tb_appointments (appointment_date, id);
+
+CREATE INDEX IF NOT EXISTS idx_dashboard_rollups_range ON tb_dashboard_rollups (metric, dimension, bucket_date);
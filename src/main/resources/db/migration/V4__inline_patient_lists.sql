@@ -0,0 +1,9 @@
+ALTER TABLE tb_pacients ADD COLUMN allergies VARCHAR(255) ARRAY;
+ALTER TABLE tb_pacients ADD COLUMN specific_care VARCHAR(255) ARRAY;
+
+UPDATE tb_pacients p
+SET allergies = (SELECT ARRAY_AGG(a.allergy) FROM tb_patient_allergies a WHERE a.patient_id = p.id),
+    specific_care = (SELECT ARRAY_AGG(s.specific_care) FROM tb_patient_specific_care s WHERE s.patient_id = p.id);
+
+DROP TABLE tb_patient_allergies;
+DROP TABLE tb_patient_specific_care;
@@ -0,0 +1 @@
+ALTER TABLE tb_pacients ADD COLUMN allergy_terms VARCHAR(255) ARRAY;
@@ -0,0 +1,4 @@
+CREATE INDEX IF NOT EXISTS idx_pacients_state_city_full_name ON tb_pacients (state, city, full_name, id);
+CREATE INDEX IF NOT EXISTS idx_pacients_city_full_name ON tb_pacients (city, full_name, id);
+CREATE INDEX IF NOT EXISTS idx_pacients_insurance_validity ON tb_pacients (health_insurance, health_insurance_validity);
+CREATE INDEX IF NOT EXISTS idx_pacients_gender_full_name ON tb_pacients (gender, full_name, id);
@@ -0,0 +1,2 @@
+ALTER TABLE tb_pacients ALTER COLUMN name_key TYPE VARCHAR(64) COLLATE "C";
+ALTER TABLE tb_pacients ALTER COLUMN name_phonetic TYPE VARCHAR(64) COLLATE "C";
@@ -0,0 +1,3 @@
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_pacients_full_name_trgm ON tb_pacients USING gin (full_name gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_pacients_phone_trgm ON tb_pacients USING gin (phone gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_pacients_email_trgm ON tb_pacients USING gin (email gin_trgm_ops);
@@ -0,0 +1,11 @@
+ALTER TABLE tb_users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE tb_pre_register_users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE tb_pacients ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE tb_exams ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE tb_appointments ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+SELECT setval('tb_users_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM tb_users), (SELECT last_value FROM tb_users_seq)));
+SELECT setval('tb_pre_register_users_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM tb_pre_register_users), (SELECT last_value FROM tb_pre_register_users_seq)));
+SELECT setval('tb_pacients_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM tb_pacients), (SELECT last_value FROM tb_pacients_seq)));
+SELECT setval('tb_exams_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM tb_exams), (SELECT last_value FROM tb_exams_seq)));
+SELECT setval('tb_appointments_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM tb_appointments), (SELECT last_value FROM tb_appointments_seq)));
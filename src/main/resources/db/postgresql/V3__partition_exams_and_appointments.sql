@@ -0,0 +1,73 @@
+ALTER TABLE tb_exams RENAME TO tb_exams_unpartitioned;
+
+CREATE TABLE tb_exams (
+    id           BIGINT      NOT NULL,
+    name         VARCHAR(64) NOT NULL,
+    exam_date    DATE        NOT NULL,
+    exam_time    TIME(6)     NOT NULL,
+    type         VARCHAR(32) NOT NULL,
+    laboratory   VARCHAR(32) NOT NULL,
+    document_url VARCHAR(255),
+    results      VARCHAR(255),
+    patient_id   BIGINT      NOT NULL
+) PARTITION BY RANGE (exam_date);
+
+DO $$
+DECLARE
+    bucket DATE;
+BEGIN
+    FOR bucket IN SELECT DISTINCT date_trunc('month', exam_date)::DATE FROM tb_exams_unpartitioned LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF tb_exams FOR VALUES FROM (%L) TO (%L)',
+                       'tb_exams_' || to_char(bucket, 'YYYY_MM'), bucket, (bucket + INTERVAL '1 month')::DATE);
+    END LOOP;
+END $$;
+
+INSERT INTO tb_exams (id, name, exam_date, exam_time, type, laboratory, document_url, results, patient_id)
+SELECT id, name, exam_date, exam_time, type, laboratory, document_url, results, patient_id
+FROM tb_exams_unpartitioned;
+
+DROP TABLE tb_exams_unpartitioned;
+
+ALTER TABLE tb_exams ADD CONSTRAINT pk_exams PRIMARY KEY (id, exam_date);
+ALTER TABLE tb_exams ADD CONSTRAINT fk_exams_patient FOREIGN KEY (patient_id) REFERENCES tb_pacients (id);
+
+CREATE INDEX idx_exams_patient_date_time ON tb_exams (patient_id, exam_date, exam_time);
+CREATE INDEX idx_exams_exam_date_id ON tb_exams (exam_date, id);
+CREATE INDEX idx_exams_name ON tb_exams (name);
+
+ALTER TABLE tb_appointments RENAME TO tb_appointments_unpartitioned;
+
+CREATE TABLE tb_appointments (
+    id                    BIGINT        NOT NULL,
+    appointment_reason    VARCHAR(64)   NOT NULL,
+    appointment_date      DATE          NOT NULL,
+    appointment_time      TIME(6)       NOT NULL,
+    problem_description   VARCHAR(1024) NOT NULL,
+    prescribed_medication VARCHAR(255),
+    observations          VARCHAR(255),
+    patient_id            BIGINT        NOT NULL
+) PARTITION BY RANGE (appointment_date);
+
+DO $$
+DECLARE
+    bucket DATE;
+BEGIN
+    FOR bucket IN SELECT DISTINCT date_trunc('month', appointment_date)::DATE FROM tb_appointments_unpartitioned LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF tb_appointments FOR VALUES FROM (%L) TO (%L)',
+                       'tb_appointments_' || to_char(bucket, 'YYYY_MM'), bucket, (bucket + INTERVAL '1 month')::DATE);
+    END LOOP;
+END $$;
+
+INSERT INTO tb_appointments (id, appointment_reason, appointment_date, appointment_time, problem_description,
+                             prescribed_medication, observations, patient_id)
+SELECT id, appointment_reason, appointment_date, appointment_time, problem_description,
+       prescribed_medication, observations, patient_id
+FROM tb_appointments_unpartitioned;
+
+DROP TABLE tb_appointments_unpartitioned;
+
+ALTER TABLE tb_appointments ADD CONSTRAINT pk_appointments PRIMARY KEY (id, appointment_date);
+ALTER TABLE tb_appointments ADD CONSTRAINT fk_appointments_patient FOREIGN KEY (patient_id) REFERENCES tb_pacients (id);
+
+CREATE INDEX idx_appointments_patient_date_time ON tb_appointments (patient_id, appointment_date, appointment_time);
+CREATE INDEX idx_appointments_appointment_date_id ON tb_appointments (appointment_date, id);
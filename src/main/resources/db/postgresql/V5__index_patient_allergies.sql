@@ -0,0 +1 @@
+CREATE INDEX idx_pacients_allergies ON tb_pacients USING gin (allergies);
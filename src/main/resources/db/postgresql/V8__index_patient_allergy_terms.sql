@@ -0,0 +1,3 @@
+DROP INDEX IF EXISTS idx_pacients_allergies;
+
+CREATE INDEX idx_pacients_allergy_terms ON tb_pacients USING gin (allergy_terms);
@@ -0,0 +1,26 @@
+package br.com.senai.benchmark;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Entity
+@Table(name = "bench_identity_rows")
+@Getter
+@Setter
+public class IdentityBenchmarkRow {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String name;
+
+    @ElementCollection
+    @CollectionTable(name = "bench_identity_row_tags", joinColumns = @JoinColumn(name = "row_id"))
+    @Column(name = "tag")
+    private List<String> tags = new ArrayList<>();
+}
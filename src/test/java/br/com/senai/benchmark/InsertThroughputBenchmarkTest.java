@@ -0,0 +1,104 @@
+package br.com.senai.benchmark;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// fora de br.com.senai.medicalone para que as entidades bench_* não entrem no mapeamento da aplicação
+@Tag("benchmark")
+public class InsertThroughputBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 5000);
+    private static final int FLUSH_EVERY = 50;
+
+    private SessionFactory sessionFactory;
+
+    @BeforeEach
+    public void setUp() {
+        // mesmas configurações de batch da aplicação (application.properties)
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(IdentityBenchmarkRow.class)
+                .addAnnotatedClass(SequenceBenchmarkRow.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:insertbenchmark;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "50")
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .setProperty(AvailableSettings.GENERATE_STATISTICS, "true")
+                .buildSessionFactory();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Test
+    public void compareIdentityAndPooledSequenceInserts() {
+        insertRows(IdentityBenchmarkRow.class, 500, this::identityRow);
+        insertRows(SequenceBenchmarkRow.class, 500, this::sequenceRow);
+
+        Result identity = insertRows(IdentityBenchmarkRow.class, ROWS, this::identityRow);
+        Result pooled = insertRows(SequenceBenchmarkRow.class, ROWS, this::sequenceRow);
+
+        System.out.printf("IDENTITY        : %d rows in %d ms (%.0f rows/s, %d statements)%n",
+                ROWS, identity.millis(), identity.rowsPerSecond(ROWS), identity.statements());
+        System.out.printf("SEQUENCE pooled : %d rows in %d ms (%.0f rows/s, %d statements)%n",
+                ROWS, pooled.millis(), pooled.rowsPerSecond(ROWS), pooled.statements());
+
+        assertTrue(pooled.statements() < identity.statements());
+    }
+
+    private IdentityBenchmarkRow identityRow(Integer i) {
+        IdentityBenchmarkRow row = new IdentityBenchmarkRow();
+        row.setName("Paciente " + i);
+        row.setTags(List.of("Poeira", "Amendoim"));
+        return row;
+    }
+
+    private SequenceBenchmarkRow sequenceRow(Integer i) {
+        SequenceBenchmarkRow row = new SequenceBenchmarkRow();
+        row.setName("Paciente " + i);
+        row.setTags(List.of("Poeira", "Amendoim"));
+        return row;
+    }
+
+    private <T> Result insertRows(Class<T> type, int rows, Function<Integer, T> factory) {
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+        EntityManager entityManager = sessionFactory.createEntityManager();
+        long start = System.nanoTime();
+        try {
+            entityManager.getTransaction().begin();
+            for (int i = 0; i < rows; i++) {
+                entityManager.persist(factory.apply(i));
+                if ((i + 1) % FLUSH_EVERY == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+            entityManager.getTransaction().commit();
+        } finally {
+            entityManager.close();
+        }
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        return new Result(Math.max(millis, 1), statistics.getPrepareStatementCount());
+    }
+
+    private record Result(long millis, long statements) {
+        double rowsPerSecond(int rows) {
+            return rows * 1000.0 / millis;
+        }
+    }
+}
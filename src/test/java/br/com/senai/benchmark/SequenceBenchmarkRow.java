@@ -0,0 +1,27 @@
+package br.com.senai.benchmark;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Entity
+@Table(name = "bench_sequence_rows")
+@Getter
+@Setter
+public class SequenceBenchmarkRow {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bench_sequence_row_seq")
+    @SequenceGenerator(name = "bench_sequence_row_seq", sequenceName = "bench_sequence_rows_seq", allocationSize = 50)
+    private Long id;
+
+    private String name;
+
+    @ElementCollection
+    @CollectionTable(name = "bench_sequence_row_tags", joinColumns = @JoinColumn(name = "row_id"))
+    @Column(name = "tag")
+    private List<String> tags = new ArrayList<>();
+}
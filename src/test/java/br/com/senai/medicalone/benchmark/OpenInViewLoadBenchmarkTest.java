@@ -0,0 +1,175 @@
+package br.com.senai.medicalone.benchmark;
+
+import br.com.senai.medicalone.MedicaloneApplication;
+import br.com.senai.medicalone.entities.patient.Patient;
+import br.com.senai.medicalone.repositories.patient.PatientRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("benchmark")
+public class OpenInViewLoadBenchmarkTest {
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 32);
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("benchmark.requests", 200);
+    private static final int POOL_SIZE = Integer.getInteger("benchmark.pool-size", 4);
+    private static final int PATIENTS = 200;
+    private static final String LIST_PATH = "/api/pacientes?page=0&size=100";
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void compareConnectionHoldTimeWithAndWithoutOpenInView() throws Exception {
+        Result openInView = runLoad(true);
+        Result serviceScoped = runLoad(false);
+
+        System.out.println("open-in-view  " + openInView);
+        System.out.println("service-scope " + serviceScoped);
+
+        assertEquals(0, openInView.failures());
+        assertEquals(0, serviceScoped.failures());
+        assertTrue(serviceScoped.meanUsageMillis() < openInView.meanUsageMillis());
+    }
+
+    private Result runLoad(boolean openInView) throws Exception {
+        try (ServletWebServerApplicationContext context = (ServletWebServerApplicationContext)
+                new SpringApplicationBuilder(MedicaloneApplication.class)
+                        .profiles("test")
+                        .properties(
+                                "server.port=0",
+                                "spring.jpa.show-sql=false",
+                                "spring.jpa.open-in-view=" + openInView,
+                                "spring.datasource.url=jdbc:h2:mem:osiv" + openInView + ";DB_CLOSE_DELAY=-1",
+                                "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                                "spring.datasource.hikari.minimum-idle=" + POOL_SIZE)
+                        .run()) {
+            seed(context);
+            String baseUrl = "http://localhost:" + context.getWebServer().getPort();
+            String token = login(baseUrl);
+            for (int i = 0; i < 200; i++) {
+                get(baseUrl, token);
+            }
+
+            MeterRegistry registry = context.getBean(MeterRegistry.class);
+            Timer acquire = registry.get("hikaricp.connections.acquire").timer();
+            Timer usage = registry.get("hikaricp.connections.usage").timer();
+            long acquireCount = acquire.count();
+            double acquireMillis = acquire.totalTime(TimeUnit.MILLISECONDS);
+            long usageCount = usage.count();
+            double usageMillis = usage.totalTime(TimeUnit.MILLISECONDS);
+
+            AtomicInteger failures = new AtomicInteger();
+            ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+            long start = System.nanoTime();
+            try {
+                List<Future<?>> clients = new ArrayList<>();
+                for (int c = 0; c < CLIENTS; c++) {
+                    clients.add(executor.submit(() -> {
+                        for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                            if (get(baseUrl, token) != 200) {
+                                failures.incrementAndGet();
+                            }
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> client : clients) {
+                    client.get();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            long elapsedMillis = Math.max((System.nanoTime() - start) / 1_000_000, 1);
+
+            long acquisitions = acquire.count() - acquireCount;
+            long checkouts = usage.count() - usageCount;
+            return new Result(
+                    CLIENTS * REQUESTS_PER_CLIENT * 1000.0 / elapsedMillis,
+                    acquisitions == 0 ? 0 : (acquire.totalTime(TimeUnit.MILLISECONDS) - acquireMillis) / acquisitions,
+                    checkouts == 0 ? 0 : (usage.totalTime(TimeUnit.MILLISECONDS) - usageMillis) / checkouts,
+                    checkouts,
+                    failures.get());
+        }
+    }
+
+    private void seed(ServletWebServerApplicationContext context) {
+        PasswordEncoder passwordEncoder = context.getBean(PasswordEncoder.class);
+        String password = passwordEncoder.encode("12345678900");
+        List<Patient> patients = new ArrayList<>(PATIENTS);
+        for (int i = 0; i < PATIENTS; i++) {
+            patients.add(Patient.builder()
+                    .fullName("Paciente " + i)
+                    .gender("Feminino")
+                    .birthDate(LocalDate.of(1990, 1, 1))
+                    .cpf(String.format("%011d", i))
+                    .rg("1234567890")
+                    .rgIssuer("SSP")
+                    .maritalStatus("Solteira")
+                    .phone(String.format("119%08d", i))
+                    .email("paciente" + i + "@example.com")
+                    .placeOfBirth("São Paulo")
+                    .emergencyContact("11999999999")
+                    .allergies(List.of("Poeira"))
+                    .specificCare(List.of("Nenhum"))
+                    .healthInsurance("Unimed")
+                    .zipCode("12345678")
+                    .city("São Paulo")
+                    .state("SP")
+                    .street("Rua Exemplo")
+                    .number("1")
+                    .neighborhood("Centro")
+                    .password(password)
+                    .build());
+        }
+        context.getBean(PatientRepository.class).saveAll(patients);
+    }
+
+    private String login(String baseUrl) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/usuarios/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\":\"admin@example.com\",\"password\":\"admin12345\"}"))
+                .build();
+        String body = httpClient.send(request, HttpResponse.BodyHandlers.ofString()).body();
+        return objectMapper.readTree(body).get("token").asText();
+    }
+
+    private int get(String baseUrl, String token) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + LIST_PATH))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private record Result(double requestsPerSecond, double meanAcquireMillis, double meanUsageMillis,
+                          long checkouts, int failures) {
+        @Override
+        public String toString() {
+            return String.format("%.0f req/s, pool wait %.3f ms/checkout, connection held %.3f ms/checkout, %d checkouts",
+                    requestsPerSecond, meanAcquireMillis, meanUsageMillis, checkouts);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package br.com.senai.medicalone.benchmark;
+
+import br.com.senai.medicalone.dtos.patient.PatientResponseDTO;
+import br.com.senai.medicalone.entities.patient.Patient;
+import br.com.senai.medicalone.mappers.patient.PatientMapper;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PatientMappingBenchmark {
+
+    private ModelMapper modelMapper;
+    private PatientMapper patientMapper;
+    private Patient patient;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        patientMapper = new PatientMapper();
+        patient = new Patient();
+        patient.setId(42L);
+        patient.setFullName("John Doe");
+        patient.setGender("Masculino");
+        patient.setBirthDate(LocalDate.of(1990, 1, 1));
+        patient.setCpf("12345678945");
+        patient.setRg("1234567890");
+        patient.setRgIssuer("SSP");
+        patient.setMaritalStatus("Solteiro");
+        patient.setPhone("99999999999");
+        patient.setEmail("johndoe@example.com");
+        patient.setPlaceOfBirth("São Paulo");
+        patient.setEmergencyContact("99999999998");
+        patient.setAllergies(new ArrayList<>(List.of("Poeira", "Amendoim")));
+        patient.setSpecificCare(new ArrayList<>(List.of("Precisa de acompanhamento cardíaco")));
+        patient.setHealthInsurance("Unimed");
+        patient.setHealthInsuranceNumber("1234567890");
+        patient.setHealthInsuranceValidity(LocalDate.of(2025, 12, 31));
+        patient.setZipCode("12345678");
+        patient.setCity("São Paulo");
+        patient.setState("SP");
+        patient.setStreet("Rua Exemplo");
+        patient.setNumber("123");
+        patient.setComplement("Apto 101");
+        patient.setNeighborhood("Centro");
+        patient.setReferencePoint("Próximo ao mercado");
+        patient.setPassword("hash");
+    }
+
+    @Benchmark
+    public PatientResponseDTO modelMapper() {
+        return modelMapper.map(patient, PatientResponseDTO.class);
+    }
+
+    @Benchmark
+    public PatientResponseDTO handWrittenMapper() {
+        return patientMapper.toResponseDTO(patient);
+    }
+}
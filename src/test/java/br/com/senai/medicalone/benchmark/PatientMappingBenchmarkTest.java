@@ -0,0 +1,42 @@
+package br.com.senai.medicalone.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("benchmark")
+public class PatientMappingBenchmarkTest {
+
+    @Test
+    public void compareModelMapperAndHandWrittenMapper() throws Exception {
+        Options options = new OptionsBuilder()
+                .include(PatientMappingBenchmark.class.getName())
+                .forks(1)
+                .jvmArgsAppend("-cp", System.getProperty("java.class.path"))
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+        Map<String, Double> scores = results.stream().collect(Collectors.toMap(
+                result -> result.getParams().getBenchmark().replaceAll(".*\\.", ""),
+                result -> result.getPrimaryResult().getScore()));
+
+        System.out.printf("ModelMapper       : %.0f ns/op%n", scores.get("modelMapper"));
+        System.out.printf("Mapper manual     : %.0f ns/op%n", scores.get("handWrittenMapper"));
+
+        assertTrue(scores.get("handWrittenMapper") < scores.get("modelMapper"));
+    }
+}
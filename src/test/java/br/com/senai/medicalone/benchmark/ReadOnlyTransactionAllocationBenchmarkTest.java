@@ -0,0 +1,144 @@
+package br.com.senai.medicalone.benchmark;
+
+import br.com.senai.medicalone.entities.exam.Exam;
+import br.com.senai.medicalone.entities.patient.Patient;
+import br.com.senai.medicalone.repositories.exam.ExamRepository;
+import br.com.senai.medicalone.repositories.patient.PatientRepository;
+import br.com.senai.medicalone.services.exam.ExamService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@ActiveProfiles("test")
+public class ReadOnlyTransactionAllocationBenchmarkTest {
+
+    private static final int PAGE_SIZE = Integer.getInteger("benchmark.page-size", 2000);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 30);
+
+    @Autowired
+    private ExamService examService;
+
+    @Autowired
+    private ExamRepository examRepository;
+
+    @Autowired
+    private PatientRepository patientRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    public void compareAllocationOfReadWriteAndReadOnlyPageLoads() {
+        seed();
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        readOnly.executeWithoutResult(status -> {
+            Session session = entityManager.unwrap(Session.class);
+            assertEquals(FlushMode.MANUAL, session.getHibernateFlushMode());
+            assertTrue(session.isDefaultReadOnly());
+            assertTrue(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+        });
+
+        for (int i = 0; i < 5; i++) {
+            readWrite.execute(status -> loadPage());
+            loadPage();
+        }
+
+        Result writable = measure(() -> readWrite.execute(status -> loadPage()));
+        Result serviceReadOnly = measure(this::loadPage);
+
+        System.out.printf("read-write : %s%n", writable);
+        System.out.printf("read-only  : %s%n", serviceReadOnly);
+
+        assertTrue(serviceReadOnly.bytesPerPage() < writable.bytesPerPage());
+    }
+
+    private int loadPage() {
+        return examService.listExams(null, null, PageRequest.of(0, PAGE_SIZE)).getNumberOfElements();
+    }
+
+    private Result measure(Runnable pageLoad) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        System.gc();
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            pageLoad.run();
+        }
+        long nanos = System.nanoTime() - start;
+        long bytes = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+        return new Result(bytes / ITERATIONS, nanos / ITERATIONS / 1_000_000.0);
+    }
+
+    private void seed() {
+        Patient patient = patientRepository.save(Patient.builder()
+                .fullName("Paciente Benchmark")
+                .gender("Feminino")
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .cpf("98765432100")
+                .rg("1234567890")
+                .rgIssuer("SSP")
+                .maritalStatus("Solteira")
+                .phone("11988887777")
+                .email("benchmark.readonly@example.com")
+                .placeOfBirth("São Paulo")
+                .emergencyContact("11999999999")
+                .healthInsurance("Unimed")
+                .zipCode("12345678")
+                .city("São Paulo")
+                .state("SP")
+                .street("Rua Exemplo")
+                .number("1")
+                .neighborhood("Centro")
+                .password("12345678900")
+                .build());
+        List<Exam> exams = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            Exam exam = new Exam();
+            exam.setName("Hemograma Completo " + i);
+            exam.setExamDate(LocalDate.of(2023, 1, 1).plusDays(i % 365));
+            exam.setExamTime(LocalTime.of(8, 0).plusMinutes(i % 600));
+            exam.setType("Sangue");
+            exam.setLaboratory("Laboratório XYZ");
+            exam.setDocumentUrl("http://example.com/document" + i + ".pdf");
+            exam.setResults("Resultados detalhados do exame número " + i);
+            exam.setPatient(patient);
+            exams.add(exam);
+        }
+        examRepository.saveAll(exams);
+    }
+
+    private record Result(long bytesPerPage, double millisPerPage) {
+        @Override
+        public String toString() {
+            return String.format("%,d bytes allocated/page, %.2f ms/page", bytesPerPage, millisPerPage);
+        }
+    }
+}
@@ -145,6 +145,29 @@ public class AppointmentControllerIntegrationTest {
                 .andExpect(jsonPath("$.appointment.appointmentReason").value(appointmentRequestDTO.getAppointmentReason()));
     }
 
+    @Test
+    public void testCreateAppointment_FlagsAllergyConflict() throws Exception {
+        Long patientId = createMockPatient();
+        appointmentRequestDTO = createMockAppointment(patientId);
+        appointmentRequestDTO.setPrescribedMedication("Paçoca de AMENDOIM");
+
+        mockMvc.perform(post("/api/consultas")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(appointmentRequestDTO))
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.appointment.allergyConflicts[0]").value("Amendoim"));
+
+        appointmentRequestDTO.setAppointmentTime(appointmentRequestDTO.getAppointmentTime().plusHours(1));
+        appointmentRequestDTO.setPrescribedMedication("Paracetamol 750mg");
+        mockMvc.perform(post("/api/consultas")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(appointmentRequestDTO))
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.appointment.allergyConflicts.length()").value(0));
+    }
+
     @Test
     public void testCreateAppointment_MissingData() throws Exception {
         AppointmentRequestDTO invalidAppointmentRequestDTO = new AppointmentRequestDTO();
@@ -246,4 +246,84 @@ public class ExamControllerIntegrationTest {
                 .andExpect(jsonPath("$.page.totalPages").value(1))
                 .andExpect(jsonPath("$.page.number").value(0));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testListExams_CursorModeKeepsNameFilter() throws Exception {
+        Long patientId = createMockPatient();
+        examService.createExam(createMockExam(patientId));
+        ExamRequestDTO other = createMockExam(patientId);
+        other.setName("Raio X");
+        other.setExamDate(LocalDate.of(2023, 9, 1));
+        examService.createExam(other);
+
+        mockMvc.perform(get("/api/exames")
+                        .param("name", "Hemograma Completo")
+                        .param("cursor", "")
+                        .param("size", "12")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.exams.length()").value(1))
+                .andExpect(jsonPath("$.exams[0].name").value("Hemograma Completo"))
+                .andExpect(jsonPath("$.page.hasNext").value(false));
+    }
+
+    @Test
+    public void testDashboardSeries_FollowsExamWrites() throws Exception {
+        Long patientId = createMockPatient();
+        mockMvc.perform(post("/api/dashboard/series/reconstruir")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk());
+
+        ExamRequestDTO first = createMockExam(patientId);
+        first.setExamDate(LocalDate.of(2023, 10, 2));
+        examService.createExam(first);
+        ExamRequestDTO second = createMockExam(patientId);
+        second.setExamDate(LocalDate.of(2023, 10, 4));
+        second.setType("Imagem");
+        ExamResponseDTO savedSecond = examService.createExam(second);
+        ExamRequestDTO third = createMockExam(patientId);
+        third.setExamDate(LocalDate.of(2023, 10, 10));
+        ExamResponseDTO savedThird = examService.createExam(third);
+
+        mockMvc.perform(get("/api/dashboard/series")
+                        .param("metric", "exams")
+                        .param("granularity", "week")
+                        .param("groupBy", "type")
+                        .param("from", "2023-10-01")
+                        .param("to", "2023-10-31")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Série obtida com sucesso"))
+                .andExpect(jsonPath("$.data.points.length()").value(3))
+                .andExpect(jsonPath("$.data.points[0].bucket").value("2023-10-02"))
+                .andExpect(jsonPath("$.data.points[0].key").value("Imagem"))
+                .andExpect(jsonPath("$.data.points[1].key").value("Sangue"))
+                .andExpect(jsonPath("$.data.points[2].bucket").value("2023-10-09"))
+                .andExpect(jsonPath("$.data.points[2].count").value(1));
+
+        third.setType("Imagem");
+        examService.updateExam(savedThird.getId(), third);
+        examService.deleteExam(savedSecond.getId());
+
+        mockMvc.perform(get("/api/dashboard/series")
+                        .param("metric", "exams")
+                        .param("granularity", "month")
+                        .param("groupBy", "type")
+                        .param("from", "2023-10-01")
+                        .param("to", "2023-10-31")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.points.length()").value(2))
+                .andExpect(jsonPath("$.data.points[0].bucket").value("2023-10-01"))
+                .andExpect(jsonPath("$.data.points[0].key").value("Imagem"))
+                .andExpect(jsonPath("$.data.points[0].count").value(1))
+                .andExpect(jsonPath("$.data.points[1].key").value("Sangue"))
+                .andExpect(jsonPath("$.data.points[1].count").value(1));
+
+        mockMvc.perform(get("/api/dashboard/series")
+                        .param("metric", "exams")
+                        .param("granularity", "year")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -1,5 +1,7 @@
 package br.com.senai.medicalone.controllers.patient;
 
+import br.com.senai.medicalone.config.cache.InvalidationBus;
+import br.com.senai.medicalone.dtos.exam.ExamRequestDTO;
 import br.com.senai.medicalone.dtos.patient.PatientRequestDTO;
 import br.com.senai.medicalone.dtos.patient.PatientResponseDTO;
 import br.com.senai.medicalone.entities.user.RoleType;
@@ -7,23 +9,32 @@ import br.com.senai.medicalone.entities.user.User;
 import br.com.senai.medicalone.exceptions.customexceptions.PatientAlreadyExistsException;
 import br.com.senai.medicalone.repositories.patient.PatientRepository;
 import br.com.senai.medicalone.repositories.user.UserRepository;
+import br.com.senai.medicalone.services.dashboard.DashboardCounters;
+import br.com.senai.medicalone.services.exam.ExamService;
 import br.com.senai.medicalone.services.patient.PatientService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doThrow;
@@ -54,6 +65,21 @@ public class PatientControllerIntegrationTest {
     @Autowired
     private PatientRepository patientRepository;
 
+    @Autowired
+    private DashboardCounters dashboardCounters;
+
+    @Autowired
+    private ExamService examService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private PatientRequestDTO patientRequestDTO;
 
     private String jwtToken;
@@ -154,6 +180,31 @@ public class PatientControllerIntegrationTest {
                 .andExpect(jsonPath("$.patient.referencePoint").value("Próximo ao mercado"));
     }
 
+    @Test
+    public void testCreateAndDeletePatient_UpdatesDashboardCounters() throws Exception {
+        dashboardCounters.reconcile();
+
+        String response = mockMvc.perform(post("/api/pacientes")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(patientRequestDTO)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertEquals(patientRepository.count(), dashboardCounters.snapshot().get("patientCount"));
+        assertEquals(userRepository.count(), dashboardCounters.snapshot().get("userCount"));
+
+        long id = objectMapper.readTree(response).get("patient").get("id").asLong();
+        mockMvc.perform(delete("/api/pacientes/{id}", id)
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk());
+
+        assertEquals(0L, dashboardCounters.snapshot().get("patientCount"));
+        assertEquals(userRepository.count(), dashboardCounters.snapshot().get("userCount"));
+    }
+
     @Test
     public void testGetPatientById_Success() throws Exception {
         PatientResponseDTO savedPatient = patientService.createPatient(patientRequestDTO);
@@ -179,6 +230,88 @@ public class PatientControllerIntegrationTest {
                 .andExpect(jsonPath("$.patient.fullName").value("Jane Doe"));
     }
 
+    @Test
+    public void testUpdatePatient_KeepsUserAndLinkedRecords() throws Exception {
+        PatientResponseDTO savedPatient = patientService.createPatient(patientRequestDTO);
+        ExamRequestDTO exam = new ExamRequestDTO();
+        exam.setName("Hemograma Completo");
+        exam.setExamDate(LocalDate.of(2023, 10, 1));
+        exam.setExamTime(LocalTime.of(8, 30));
+        exam.setType("Sangue");
+        exam.setLaboratory("Laboratório XYZ");
+        exam.setPatientId(savedPatient.getId());
+        examService.createExam(exam);
+        patientRequestDTO.setFullName("Jane Doe");
+
+        mockMvc.perform(put("/api/pacientes/{id}", savedPatient.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(patientRequestDTO))
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.patient.fullName").value("Jane Doe"));
+
+        assertNotNull(patientRepository.findForDeleteById(savedPatient.getId()).orElseThrow().getUser());
+        mockMvc.perform(delete("/api/pacientes/{id}", savedPatient.getId())
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Paciente possui exames ou consultas vinculadas"));
+    }
+
+    @Test
+    public void testGetPatientById_ServedFromSecondLevelCacheAndInvalidatedOnUpdate() throws Exception {
+        PatientResponseDTO savedPatient = patientService.createPatient(patientRequestDTO);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        mockMvc.perform(get("/api/pacientes/{id}", savedPatient.getId())
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk());
+        statistics.clear();
+        mockMvc.perform(get("/api/pacientes/{id}", savedPatient.getId())
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.patient.allergies[1]").value("Amendoim"));
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("patients").getHitCount());
+
+        patientRequestDTO.setFullName("Jane Doe");
+        patientRequestDTO.setAllergies(Arrays.asList("Lactose"));
+        mockMvc.perform(put("/api/pacientes/{id}", savedPatient.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(patientRequestDTO))
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/pacientes/{id}", savedPatient.getId())
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.patient.fullName").value("Jane Doe"))
+                .andExpect(jsonPath("$.patient.allergies.length()").value(1))
+                .andExpect(jsonPath("$.patient.allergies[0]").value("Lactose"));
+    }
+
+    @Test
+    public void testGetPatientById_EvictedByInvalidationFromAnotherNode() throws Exception {
+        PatientResponseDTO savedPatient = patientService.createPatient(patientRequestDTO);
+        mockMvc.perform(get("/api/pacientes/{id}", savedPatient.getId())
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk());
+
+        jdbcTemplate.update("UPDATE tb_pacients SET full_name = ? WHERE id = ?", "Jane Doe", savedPatient.getId());
+
+        mockMvc.perform(get("/api/pacientes/{id}", savedPatient.getId())
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.patient.fullName").value("John Doe"));
+
+        invalidationBus.publish(InvalidationBus.PATIENT, savedPatient.getId());
+
+        mockMvc.perform(get("/api/pacientes/{id}", savedPatient.getId())
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.patient.fullName").value("Jane Doe"));
+    }
+
     @Test
     public void testDeletePatient_Success() throws Exception {
         PatientResponseDTO savedPatient = patientService.createPatient(patientRequestDTO);
@@ -199,12 +332,265 @@ public class PatientControllerIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.message").value("Pacientes encontrados com sucesso"))
                 .andExpect(jsonPath("$.patients[0].fullName").value("John Doe"))
+                .andExpect(jsonPath("$.patients[0].healthInsurance").value("Unimed"))
+                .andExpect(jsonPath("$.patients[0].allergies").doesNotExist())
+                .andExpect(jsonPath("$.patients[0].rg").doesNotExist())
                 .andExpect(jsonPath("$.page.size").value(10))
                 .andExpect(jsonPath("$.page.totalElements").value(1))
                 .andExpect(jsonPath("$.page.totalPages").value(1))
                 .andExpect(jsonPath("$.page.number").value(0));
     }
 
+    @Test
+    public void testGetPatientsByAllergy_MatchesNormalizedTerm() throws Exception {
+        patientRequestDTO.setAllergies(Arrays.asList("Poeira", "Amendóim"));
+        patientService.createPatient(patientRequestDTO);
+        mockMvc.perform(get("/api/pacientes/alergias/{substance}", " AMENDOIM ")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.patients[0].fullName").value("John Doe"))
+                .andExpect(jsonPath("$.page.totalElements").value(1));
+
+        mockMvc.perform(get("/api/pacientes/alergias/{substance}", "Lactose")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.patients.length()").value(0))
+                .andExpect(jsonPath("$.page.totalElements").value(0));
+    }
+
+    @Test
+    public void testSearchPatients_FiltersAndCountsFacets() throws Exception {
+        patientService.createPatient(patientRequestDTO);
+        patientRequestDTO.setFullName("Maria Souza");
+        patientRequestDTO.setGender("Feminino");
+        patientRequestDTO.setCpf("987.654.321-00");
+        patientRequestDTO.setEmail("maria@example.com");
+        patientRequestDTO.setCity("Campinas");
+        patientRequestDTO.setHealthInsuranceValidity(LocalDate.now().plusYears(1));
+        patientService.createPatient(patientRequestDTO);
+        patientRequestDTO.setFullName("Ana Lima");
+        patientRequestDTO.setCpf("111.222.333-44");
+        patientRequestDTO.setEmail("ana@example.com");
+        patientRequestDTO.setState("RJ");
+        patientRequestDTO.setCity("Rio de Janeiro");
+        patientRequestDTO.setHealthInsurance("Amil");
+        patientRequestDTO.setHealthInsuranceValidity(null);
+        patientService.createPatient(patientRequestDTO);
+
+        mockMvc.perform(get("/api/pacientes/busca")
+                        .param("size", "2")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.patients.length()").value(2))
+                .andExpect(jsonPath("$.patients[0].fullName").value("Ana Lima"))
+                .andExpect(jsonPath("$.patients[1].fullName").value("John Doe"))
+                .andExpect(jsonPath("$.page.totalElements").value(3))
+                .andExpect(jsonPath("$.page.totalPages").value(2))
+                .andExpect(jsonPath("$.facets.state[0].value").value("SP"))
+                .andExpect(jsonPath("$.facets.state[0].count").value(2))
+                .andExpect(jsonPath("$.facets.gender[0].value").value("Feminino"))
+                .andExpect(jsonPath("$.facets.gender[0].count").value(2))
+                .andExpect(jsonPath("$.facets.insuranceValidity.length()").value(3));
+
+        mockMvc.perform(get("/api/pacientes/busca")
+                        .param("state", "SP")
+                        .param("healthInsurance", "Unimed")
+                        .param("insuranceValidity", "vigente")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.patients.length()").value(1))
+                .andExpect(jsonPath("$.patients[0].fullName").value("Maria Souza"))
+                .andExpect(jsonPath("$.page.totalElements").value(1))
+                .andExpect(jsonPath("$.facets.city[0].value").value("Campinas"))
+                .andExpect(jsonPath("$.facets.city[0].count").value(1))
+                .andExpect(jsonPath("$.facets.insuranceValidity.length()").value(2))
+                .andExpect(jsonPath("$.facets.insuranceValidity[0].value").value("vencido"))
+                .andExpect(jsonPath("$.facets.insuranceValidity[1].value").value("vigente"));
+    }
+
+    @Test
+    public void testSearchPatients_FacetCountsIgnoreTheirOwnFilter() throws Exception {
+        patientService.createPatient(patientRequestDTO);
+        patientRequestDTO.setFullName("Ana Lima");
+        patientRequestDTO.setCpf("111.222.333-44");
+        patientRequestDTO.setEmail("ana@example.com");
+        patientRequestDTO.setState("RJ");
+        patientRequestDTO.setCity("Rio de Janeiro");
+        patientRequestDTO.setHealthInsurance("Amil");
+        patientService.createPatient(patientRequestDTO);
+        patientRequestDTO.setFullName("Bruno Rocha");
+        patientRequestDTO.setCpf("555.666.777-88");
+        patientRequestDTO.setEmail("bruno@example.com");
+        patientRequestDTO.setHealthInsurance("Unimed");
+        patientService.createPatient(patientRequestDTO);
+
+        mockMvc.perform(get("/api/pacientes/busca")
+                        .param("state", "SP")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page.totalElements").value(1))
+                .andExpect(jsonPath("$.facets.state.length()").value(2))
+                .andExpect(jsonPath("$.facets.state[0].value").value("RJ"))
+                .andExpect(jsonPath("$.facets.state[0].count").value(2))
+                .andExpect(jsonPath("$.facets.state[1].value").value("SP"))
+                .andExpect(jsonPath("$.facets.state[1].count").value(1))
+                .andExpect(jsonPath("$.facets.city.length()").value(1))
+                .andExpect(jsonPath("$.facets.city[0].value").value("São Paulo"));
+
+        mockMvc.perform(get("/api/pacientes/busca")
+                        .param("state", "RJ")
+                        .param("healthInsurance", "Unimed")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.patients[0].fullName").value("Bruno Rocha"))
+                .andExpect(jsonPath("$.facets.state.length()").value(2))
+                .andExpect(jsonPath("$.facets.healthInsurance.length()").value(2))
+                .andExpect(jsonPath("$.facets.healthInsurance[0].value").value("Amil"))
+                .andExpect(jsonPath("$.facets.healthInsurance[1].value").value("Unimed"));
+    }
+
+    @Test
+    public void testSearchPatients_InvalidInsuranceValidity() throws Exception {
+        mockMvc.perform(get("/api/pacientes/busca")
+                        .param("insuranceValidity", "talvez")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testGetAllPatients_CursorMode() throws Exception {
+        patientService.createPatient(patientRequestDTO);
+        PatientRequestDTO secondPatient = createMockPatient();
+        secondPatient.setFullName("Ana Souza");
+        secondPatient.setCpf("987.654.321-00");
+        secondPatient.setEmail("anasouza@example.com");
+        secondPatient.setPhone("(11) 9 8888-7777");
+        patientService.createPatient(secondPatient);
+
+        String response = mockMvc.perform(get("/api/pacientes")
+                        .param("cursor", "")
+                        .param("size", "1")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.patients[0].fullName").value("Ana Souza"))
+                .andExpect(jsonPath("$.page.hasNext").value(true))
+                .andExpect(jsonPath("$.page.totalElements").doesNotExist())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        String nextCursor = objectMapper.readTree(response).get("page").get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/pacientes")
+                        .param("cursor", nextCursor)
+                        .param("size", "1")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.patients[0].fullName").value("John Doe"))
+                .andExpect(jsonPath("$.page.hasNext").value(false))
+                .andExpect(jsonPath("$.page.nextCursor").doesNotExist());
+    }
+
+    @Test
+    public void testGetAllPatients_InvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/pacientes")
+                        .param("cursor", "not-a-cursor")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Cursor inválido"));
+    }
+
+    @Test
+    public void testExportPatientRecords_Success() throws Exception {
+        patientService.createPatient(patientRequestDTO);
+        PatientRequestDTO secondPatient = createMockPatient();
+        secondPatient.setFullName("Ana Souza");
+        secondPatient.setCpf("987.654.321-00");
+        secondPatient.setEmail("anasouza@example.com");
+        secondPatient.setPhone("(11) 9 8888-7777");
+        patientService.createPatient(secondPatient);
+        entityManagerFactory.getCache().evictAll();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        String body = mockMvc.perform(get("/api/pacientes/prontuarios/exportar")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("John Doe", objectMapper.readTree(lines[0]).get("patient").get("fullName").asText());
+        assertEquals(2, objectMapper.readTree(lines[0]).get("patient").get("allergies").size());
+        assertEquals("Ana Souza", objectMapper.readTree(lines[1]).get("patient").get("fullName").asText());
+        assertTrue(objectMapper.readTree(lines[1]).get("exams").isArray());
+        assertEquals(0, statistics.getDomainDataRegionStatistics("patients").getPutCount());
+    }
+
+    @Test
+    public void testImportPatients_JsonArray() throws Exception {
+        patientService.createPatient(patientRequestDTO);
+        PatientRequestDTO newPatient = createMockPatient();
+        newPatient.setFullName("Ana Souza");
+        newPatient.setCpf("987.654.321-00");
+        newPatient.setEmail("anasouza@example.com");
+        PatientRequestDTO duplicatedCpf = createMockPatient();
+        duplicatedCpf.setEmail("outro@example.com");
+        PatientRequestDTO missingRg = createMockPatient();
+        missingRg.setCpf("111.222.333-44");
+        missingRg.setEmail("semrg@example.com");
+        missingRg.setRg(null);
+
+        String rows = objectMapper.writeValueAsString(Arrays.asList(newPatient, duplicatedCpf, missingRg));
+        String invalidDate = "{\"fullName\": \"Data Errada\", \"birthDate\": \"31/12/1990\"}";
+        String body = rows.substring(0, rows.length() - 1) + "," + invalidDate + "]";
+
+        String response = mockMvc.perform(post("/api/pacientes/importar")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.accepted").value(1))
+                .andExpect(jsonPath("$.result.rejected").value(3))
+                .andExpect(jsonPath("$.result.rows[0].status").value("ACEITO"))
+                .andExpect(jsonPath("$.result.rows[1].reason").value("CPF já cadastrado"))
+                .andExpect(jsonPath("$.result.rows[2].reason").value("dados ausentes: rg"))
+                .andExpect(jsonPath("$.result.rows[3].reason").value("dados inválidos: birthDate"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+
+        long patientId = objectMapper.readTree(response).get("result").get("rows").get(0).get("patientId").asLong();
+        User user = userRepository.findByEmail("anasouza@example.com").orElseThrow();
+        assertEquals(RoleType.PACIENTE, user.getRole());
+        assertEquals(patientId, user.getPatientId());
+        assertTrue(passwordEncoder.matches("98765432100", user.getPassword()));
+    }
+
+    @Test
+    public void testImportPatients_Csv() throws Exception {
+        String csv = "fullName,gender,birthDate,cpf,rg,rgIssuer,maritalStatus,phone,email,placeOfBirth,emergencyContact,allergies,zipCode,city,state,street,number,neighborhood\n" +
+                "Ana Souza,Feminino,1985-05-20,987.654.321-00,123,SSP,Casada,(11) 9 8888-7777,anasouza@example.com,Santos,(11) 9 8888-6666,Poeira;Amendoim,11000-000,Santos,SP,Rua A,10,Centro\n" +
+                "Ana Repetida,Feminino,1985-05-20,987.654.321-00,456,SSP,Casada,(11) 9 8888-7777,repetida@example.com,Santos,(11) 9 8888-6666,,11000-000,Santos,SP,Rua A,10,Centro\n";
+
+        mockMvc.perform(post("/api/pacientes/importar")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType("text/csv")
+                        .content(csv.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.accepted").value(1))
+                .andExpect(jsonPath("$.result.rows[1].status").value("REJEITADO"))
+                .andExpect(jsonPath("$.result.rows[1].reason").value("CPF já cadastrado"));
+
+        mockMvc.perform(get("/api/pacientes/cpf/98765432100")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.patient.fullName").value("Ana Souza"))
+                .andExpect(jsonPath("$.patient.allergies.length()").value(2));
+    }
+
     @Test
     public void testGetPatientByCpf_Success() throws Exception {
         PatientResponseDTO savedPatient = patientService.createPatient(patientRequestDTO);
@@ -227,6 +613,34 @@ public class PatientControllerIntegrationTest {
                 .andExpect(jsonPath("$.patients[0].fullName").value(patientRequestDTO.getFullName()));
     }
 
+    @Test
+    public void testGetPatientsByName_NormalizedAndPhoneticModes() throws Exception {
+        patientRequestDTO.setFullName("Luiz José da Conceição");
+        patientService.createPatient(patientRequestDTO);
+
+        mockMvc.perform(get("/api/pacientes/nome/{name}", "LUIZ JOSE DA CONCEICAO")
+                        .param("mode", "normalized")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.patients[0].fullName").value("Luiz José da Conceição"));
+
+        mockMvc.perform(get("/api/pacientes/nome/{name}", "Luis Jose")
+                        .param("mode", "phonetic")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.patients.length()").value(1));
+
+        mockMvc.perform(get("/api/pacientes/nome/{name}", "Luis Jose")
+                        .param("mode", "normalized")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/api/pacientes/nome/{name}", "Luis")
+                        .param("mode", "soundex")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     public void testGetPatientsByPhone_Success() throws Exception {
         PatientResponseDTO savedPatient = patientService.createPatient(patientRequestDTO);
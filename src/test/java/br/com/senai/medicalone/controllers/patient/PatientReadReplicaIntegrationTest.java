@@ -0,0 +1,207 @@
+package br.com.senai.medicalone.controllers.patient;
+
+import br.com.senai.medicalone.config.datasource.ConsistencyTokenFilter;
+import br.com.senai.medicalone.dtos.patient.PatientRequestDTO;
+import br.com.senai.medicalone.dtos.patient.PatientResponseDTO;
+import br.com.senai.medicalone.repositories.patient.PatientRepository;
+import br.com.senai.medicalone.services.patient.PatientService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:replicaprimary;DB_CLOSE_DELAY=-1",
+        "datasource.replicas.enabled=true",
+        "datasource.replicas.urls=jdbc:h2:mem:replica0;DB_CLOSE_DELAY=-1;IFEXISTS=TRUE",
+        "datasource.replicas.connection-timeout=250",
+        "datasource.replicas.retry-interval=200",
+        "datasource.replicas.read-your-writes-window=60000",
+        "jpa.second-level-cache.enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class PatientReadReplicaIntegrationTest {
+
+    private static final String PRIMARY_URL = "jdbc:h2:mem:replicaprimary";
+    private static final String REPLICA_URL = "jdbc:h2:mem:replica0;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PatientRepository patientRepository;
+
+    @Autowired
+    private PatientService patientService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private String jwtToken;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        patientRepository.deleteAll();
+        syncReplica();
+
+        String response = mockMvc.perform(post("/api/usuarios/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"admin@example.com\",\"password\":\"admin12345\"}"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        jwtToken = objectMapper.readTree(response).get("token").asText();
+    }
+
+    @Test
+    public void testReadsUseReplica_AndConsistencyTokenPinsPrimary() throws Exception {
+        double replicaConnections = replicaConnections();
+
+        MockHttpServletResponse created = mockMvc.perform(post("/api/pacientes")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createPatientRequest("11122233344", "replica@example.com"))))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse();
+        String consistencyToken = created.getHeader(ConsistencyTokenFilter.TOKEN_HEADER);
+        assertNotNull(consistencyToken);
+        assertNotNull(created.getCookie(ConsistencyTokenFilter.TOKEN_COOKIE));
+        long id = objectMapper.readTree(created.getContentAsString()).get("patient").get("id").asLong();
+
+        mockMvc.perform(get("/api/pacientes/{id}", id)
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/api/pacientes/{id}", id)
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .header(ConsistencyTokenFilter.TOKEN_HEADER, consistencyToken))
+                .andExpect(status().isOk());
+
+        syncReplica();
+
+        mockMvc.perform(get("/api/pacientes/{id}", id)
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk());
+
+        assertTrue(replicaConnections() > replicaConnections);
+    }
+
+    @Test
+    public void testUnavailableReplica_FailsOverToPrimary() throws Exception {
+        PatientResponseDTO patient = patientService.createPatient(createPatientRequest("55566677788", "failover@example.com"));
+
+        mockMvc.perform(get("/api/pacientes/{id}", patient.getId())
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isNotFound());
+
+        try (Connection connection = DriverManager.getConnection(REPLICA_URL, "sa", "password");
+             Statement statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN");
+        }
+        Thread.sleep(600);
+
+        mockMvc.perform(get("/api/pacientes/{id}", patient.getId())
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk());
+
+        assertEquals(0.0, meterRegistry.get("datasource.replica.healthy").tag("replica", "replica-0").gauge().value());
+    }
+
+    private double replicaConnections() {
+        return meterRegistry.get("datasource.routing.connections").tag("target", "replica-0").functionCounter().count();
+    }
+
+    private void syncReplica() throws Exception {
+        Path script = Files.createTempFile("replica", ".sql");
+        try {
+            try (Connection primary = DriverManager.getConnection(PRIMARY_URL, "sa", "password");
+                 Statement statement = primary.createStatement()) {
+                statement.execute("SCRIPT TO '" + script + "'");
+            }
+            try (Connection replica = DriverManager.getConnection(REPLICA_URL, "sa", "password");
+                 Statement statement = replica.createStatement()) {
+                statement.execute("DROP ALL OBJECTS");
+                statement.execute("RUNSCRIPT FROM '" + script + "'");
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            Files.deleteIfExists(script);
+        }
+        awaitReplica();
+    }
+
+    private void awaitReplica() throws InterruptedException {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        long deadline = System.currentTimeMillis() + 15000;
+        while (System.currentTimeMillis() < deadline) {
+            double before = replicaConnections();
+            readOnly.executeWithoutResult(status -> patientRepository.count());
+            if (replicaConnections() > before) {
+                return;
+            }
+            Thread.sleep(250);
+        }
+        throw new IllegalStateException("Réplica não ficou disponível");
+    }
+
+    private PatientRequestDTO createPatientRequest(String cpf, String email) {
+        PatientRequestDTO dto = new PatientRequestDTO();
+        dto.setFullName("Maria Réplica");
+        dto.setGender("Feminino");
+        dto.setBirthDate(LocalDate.parse("1990-01-01"));
+        dto.setCpf(cpf);
+        dto.setRg("1234567890");
+        dto.setRgIssuer("SSP");
+        dto.setMaritalStatus("Solteira");
+        dto.setPhone("(99) 9 8888-" + cpf.substring(7));
+        dto.setEmail(email);
+        dto.setPlaceOfBirth("São Paulo");
+        dto.setEmergencyContact("(99) 9 9999-9999");
+        dto.setAllergies(List.of("Poeira"));
+        dto.setSpecificCare(List.of("Nenhum"));
+        dto.setHealthInsurance("Unimed");
+        dto.setZipCode("12345-678");
+        dto.setCity("São Paulo");
+        dto.setState("SP");
+        dto.setStreet("Rua Exemplo");
+        dto.setNumber("123");
+        dto.setNeighborhood("Centro");
+        return dto;
+    }
+}
@@ -0,0 +1,149 @@
+package br.com.senai.medicalone.controllers.patient;
+
+import br.com.senai.medicalone.dtos.patient.PatientRequestDTO;
+import br.com.senai.medicalone.dtos.patient.PatientResponseDTO;
+import br.com.senai.medicalone.entities.patient.Patient;
+import br.com.senai.medicalone.repositories.patient.PatientRepository;
+import br.com.senai.medicalone.services.patient.PatientService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:cacheprimary;DB_CLOSE_DELAY=-1",
+        "datasource.replicas.enabled=true",
+        "datasource.replicas.urls=jdbc:h2:mem:cachereplica;DB_CLOSE_DELAY=-1;IFEXISTS=TRUE",
+        "datasource.replicas.connection-timeout=250",
+        "datasource.replicas.retry-interval=200",
+        "jpa.second-level-cache.enabled=true"
+})
+@ActiveProfiles("test")
+public class PatientReplicaSecondLevelCacheIntegrationTest {
+
+    private static final String PRIMARY_URL = "jdbc:h2:mem:cacheprimary";
+    private static final String REPLICA_URL = "jdbc:h2:mem:cachereplica;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private PatientRepository patientRepository;
+
+    @Autowired
+    private PatientService patientService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        patientRepository.deleteAll();
+        syncReplica();
+    }
+
+    @Test
+    public void testStaleReplicaRead_IsNotPutInSecondLevelCache() throws Exception {
+        PatientResponseDTO patient = patientService.createPatient(createPatientRequest());
+        syncReplica();
+
+        PatientRequestDTO update = createPatientRequest();
+        update.setFullName("Maria Atualizada");
+        patientService.updatePatient(patient.getId(), update);
+        entityManagerFactory.getCache().evictAll();
+
+        assertEquals("Maria Réplica", patientService.getPatientById(patient.getId()).getFullName());
+        assertFalse(entityManagerFactory.getCache().contains(Patient.class, patient.getId()));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(
+                status -> patientService.getPatientById(patient.getId()));
+        assertTrue(entityManagerFactory.getCache().contains(Patient.class, patient.getId()));
+
+        assertEquals("Maria Atualizada", patientService.getPatientById(patient.getId()).getFullName());
+    }
+
+    private double replicaConnections() {
+        return meterRegistry.get("datasource.routing.connections").tag("target", "replica-0").functionCounter().count();
+    }
+
+    private void syncReplica() throws Exception {
+        Path script = Files.createTempFile("replica", ".sql");
+        try {
+            try (Connection primary = DriverManager.getConnection(PRIMARY_URL, "sa", "password");
+                 Statement statement = primary.createStatement()) {
+                statement.execute("SCRIPT TO '" + script + "'");
+            }
+            try (Connection replica = DriverManager.getConnection(REPLICA_URL, "sa", "password");
+                 Statement statement = replica.createStatement()) {
+                statement.execute("DROP ALL OBJECTS");
+                statement.execute("RUNSCRIPT FROM '" + script + "'");
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            Files.deleteIfExists(script);
+        }
+        awaitReplica();
+    }
+
+    private void awaitReplica() throws InterruptedException {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        long deadline = System.currentTimeMillis() + 15000;
+        while (System.currentTimeMillis() < deadline) {
+            double before = replicaConnections();
+            readOnly.executeWithoutResult(status -> patientRepository.count());
+            if (replicaConnections() > before) {
+                return;
+            }
+            Thread.sleep(250);
+        }
+        throw new IllegalStateException("Réplica não ficou disponível");
+    }
+
+    private PatientRequestDTO createPatientRequest() {
+        PatientRequestDTO dto = new PatientRequestDTO();
+        dto.setFullName("Maria Réplica");
+        dto.setGender("Feminino");
+        dto.setBirthDate(LocalDate.parse("1990-01-01"));
+        dto.setCpf("11122233344");
+        dto.setRg("1234567890");
+        dto.setRgIssuer("SSP");
+        dto.setMaritalStatus("Solteira");
+        dto.setPhone("(99) 9 8888-3344");
+        dto.setEmail("cache.replica@example.com");
+        dto.setPlaceOfBirth("São Paulo");
+        dto.setEmergencyContact("(99) 9 9999-9999");
+        dto.setAllergies(List.of("Poeira"));
+        dto.setSpecificCare(List.of("Nenhum"));
+        dto.setHealthInsurance("Unimed");
+        dto.setZipCode("12345-678");
+        dto.setCity("São Paulo");
+        dto.setState("SP");
+        dto.setStreet("Rua Exemplo");
+        dto.setNumber("123");
+        dto.setNeighborhood("Centro");
+        return dto;
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.senai.medicalone.mappers.appointment;
+
+import br.com.senai.medicalone.dtos.appointment.AppointmentRequestDTO;
+import br.com.senai.medicalone.dtos.appointment.AppointmentResponseDTO;
+import br.com.senai.medicalone.entities.appointment.Appointment;
+import br.com.senai.medicalone.entities.patient.Patient;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class AppointmentMapperTest {
+
+    private final ModelMapper modelMapper = new ModelMapper();
+    private final AppointmentMapper appointmentMapper = new AppointmentMapper();
+
+    @Test
+    public void testToEntity_MatchesModelMapper() {
+        AppointmentRequestDTO dto = new AppointmentRequestDTO();
+        dto.setAppointmentReason("Consulta de rotina");
+        dto.setAppointmentDate(LocalDate.of(2024, 5, 10));
+        dto.setAppointmentTime(LocalTime.of(14, 0));
+        dto.setProblemDescription("Dor de cabeça");
+        dto.setPrescribedMedication("Dipirona");
+        dto.setObservations("Retornar em 30 dias");
+        dto.setPatientId(7L);
+
+        Appointment expected = modelMapper.map(dto, Appointment.class);
+        Appointment actual = appointmentMapper.toEntity(dto);
+
+        // ModelMapper também copiava patientId para o id da entidade, que o service sempre zerava
+        assertThat(actual).usingRecursiveComparison().ignoringFields("id").isEqualTo(expected);
+        assertNull(actual.getId());
+        assertEquals(7L, actual.getPatient().getId());
+    }
+
+    @Test
+    public void testToResponseDTO_MatchesModelMapper() {
+        Patient patient = new Patient();
+        patient.setId(7L);
+        Appointment appointment = new Appointment();
+        appointment.setId(5L);
+        appointment.setAppointmentReason("Consulta de rotina");
+        appointment.setAppointmentDate(LocalDate.of(2024, 5, 10));
+        appointment.setAppointmentTime(LocalTime.of(14, 0));
+        appointment.setProblemDescription("Dor de cabeça");
+        appointment.setPrescribedMedication("Dipirona");
+        appointment.setObservations("Retornar em 30 dias");
+        appointment.setPatient(patient);
+
+        AppointmentResponseDTO expected = modelMapper.map(appointment, AppointmentResponseDTO.class);
+        AppointmentResponseDTO actual = appointmentMapper.toResponseDTO(appointment);
+
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+        assertNull(appointmentMapper.toResponseDTO(null));
+    }
+}
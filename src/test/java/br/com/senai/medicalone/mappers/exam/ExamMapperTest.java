@@ -0,0 +1,73 @@
+package br.com.senai.medicalone.mappers.exam;
+
+import br.com.senai.medicalone.dtos.exam.ExamRequestDTO;
+import br.com.senai.medicalone.dtos.exam.ExamResponseDTO;
+import br.com.senai.medicalone.entities.exam.Exam;
+import br.com.senai.medicalone.entities.patient.Patient;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ExamMapperTest {
+
+    private final ModelMapper modelMapper = new ModelMapper();
+    private final ExamMapper examMapper = new ExamMapper();
+
+    @Test
+    public void testToEntity_MatchesModelMapper() {
+        ExamRequestDTO dto = new ExamRequestDTO();
+        dto.setName("Hemograma");
+        dto.setExamDate(LocalDate.of(2024, 5, 10));
+        dto.setExamTime(LocalTime.of(9, 30));
+        dto.setType("Sangue");
+        dto.setLaboratory("Lab Central");
+        dto.setDocumentUrl("http://exemplo.com/doc.pdf");
+        dto.setResults("Normal");
+        dto.setPatientId(7L);
+
+        Exam expected = modelMapper.map(dto, Exam.class);
+        Exam actual = examMapper.toEntity(dto);
+
+        // ModelMapper também copiava patientId para o id da entidade, que o service sempre zerava
+        assertThat(actual).usingRecursiveComparison().ignoringFields("id").isEqualTo(expected);
+        assertNull(actual.getId());
+        assertEquals(7L, actual.getPatient().getId());
+    }
+
+    @Test
+    public void testToResponseDTO_MatchesModelMapper() {
+        Patient patient = new Patient();
+        patient.setId(7L);
+        Exam exam = new Exam();
+        exam.setId(3L);
+        exam.setName("Hemograma");
+        exam.setExamDate(LocalDate.of(2024, 5, 10));
+        exam.setExamTime(LocalTime.of(9, 30));
+        exam.setType("Sangue");
+        exam.setLaboratory("Lab Central");
+        exam.setDocumentUrl("http://exemplo.com/doc.pdf");
+        exam.setResults("Normal");
+        exam.setPatient(patient);
+
+        ExamResponseDTO expected = modelMapper.map(exam, ExamResponseDTO.class);
+        ExamResponseDTO actual = examMapper.toResponseDTO(exam);
+
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    @Test
+    public void testToResponseDTO_WithoutPatient() {
+        Exam exam = new Exam();
+        exam.setId(3L);
+
+        assertThat(examMapper.toResponseDTO(exam)).usingRecursiveComparison()
+                .isEqualTo(modelMapper.map(exam, ExamResponseDTO.class));
+        assertNull(examMapper.toResponseDTO(null));
+    }
+}
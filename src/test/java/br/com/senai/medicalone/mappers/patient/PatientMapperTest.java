@@ -0,0 +1,128 @@
+package br.com.senai.medicalone.mappers.patient;
+
+import br.com.senai.medicalone.dtos.appointment.AppointmentResponseDTO;
+import br.com.senai.medicalone.dtos.exam.ExamResponseDTO;
+import br.com.senai.medicalone.dtos.patient.PatientRecordDTO;
+import br.com.senai.medicalone.dtos.patient.PatientRequestDTO;
+import br.com.senai.medicalone.dtos.patient.PatientResponseDTO;
+import br.com.senai.medicalone.entities.patient.Patient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class PatientMapperTest {
+
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    private PatientMapper patientMapper;
+    private PatientRecordMapper patientRecordMapper;
+
+    @BeforeEach
+    public void setUp() {
+        patientMapper = new PatientMapper();
+        patientRecordMapper = new PatientRecordMapper();
+        ReflectionTestUtils.setField(patientRecordMapper, "patientMapper", patientMapper);
+    }
+
+    @Test
+    public void testToEntity_MatchesModelMapper() {
+        PatientRequestDTO dto = createRequestDTO();
+
+        Patient expected = modelMapper.map(dto, Patient.class);
+        Patient actual = patientMapper.toEntity(dto);
+
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+        assertNotSame(dto.getAllergies(), actual.getAllergies());
+    }
+
+    @Test
+    public void testToEntity_NullCollections_MatchesModelMapper() {
+        PatientRequestDTO dto = createRequestDTO();
+        dto.setAllergies(null);
+        dto.setSpecificCare(null);
+        dto.setComplement(null);
+
+        Patient expected = modelMapper.map(dto, Patient.class);
+        Patient actual = patientMapper.toEntity(dto);
+
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    @Test
+    public void testToResponseDTO_MatchesModelMapper() {
+        Patient patient = createPatient();
+
+        PatientResponseDTO expected = modelMapper.map(patient, PatientResponseDTO.class);
+        PatientResponseDTO actual = patientMapper.toResponseDTO(patient);
+
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+        assertNotSame(patient.getAllergies(), actual.getAllergies());
+    }
+
+    @Test
+    public void testToDTO_Record_MatchesModelMapper() {
+        Patient patient = createPatient();
+        List<ExamResponseDTO> exams = List.of(new ExamResponseDTO());
+        List<AppointmentResponseDTO> appointments = List.of(new AppointmentResponseDTO());
+
+        PatientRecordDTO record = patientRecordMapper.toDTO(patient, exams, appointments);
+
+        assertThat(record.getPatient()).usingRecursiveComparison()
+                .isEqualTo(modelMapper.map(patient, PatientResponseDTO.class));
+        assertThat(record.getExams()).isSameAs(exams);
+        assertThat(record.getAppointments()).isSameAs(appointments);
+    }
+
+    @Test
+    public void testNullInput() {
+        assertNull(patientMapper.toEntity(null));
+        assertNull(patientMapper.toResponseDTO(null));
+    }
+
+    private PatientRequestDTO createRequestDTO() {
+        PatientRequestDTO dto = new PatientRequestDTO();
+        dto.setFullName("John Doe");
+        dto.setGender("Masculino");
+        dto.setBirthDate(LocalDate.parse("1990-01-01"));
+        dto.setCpf("123.456.789-45");
+        dto.setRg("1234567890");
+        dto.setRgIssuer("SSP");
+        dto.setMaritalStatus("Solteiro");
+        dto.setPhone("(99) 9 9999-9999");
+        dto.setEmail("johndoe@example.com");
+        dto.setPlaceOfBirth("São Paulo");
+        dto.setEmergencyContact("(99) 9 9999-9998");
+        dto.setAllergies(Arrays.asList("Poeira", "Amendoim"));
+        dto.setSpecificCare(Arrays.asList("Precisa de acompanhamento cardíaco"));
+        dto.setHealthInsurance("Unimed");
+        dto.setHealthInsuranceNumber("1234567890");
+        dto.setHealthInsuranceValidity(LocalDate.parse("2025-12-31"));
+        dto.setZipCode("12345-678");
+        dto.setCity("São Paulo");
+        dto.setState("SP");
+        dto.setStreet("Rua Exemplo");
+        dto.setNumber("123");
+        dto.setComplement("Apto 101");
+        dto.setNeighborhood("Centro");
+        dto.setReferencePoint("Próximo ao mercado");
+        return dto;
+    }
+
+    private Patient createPatient() {
+        Patient patient = modelMapper.map(createRequestDTO(), Patient.class);
+        patient.setId(42L);
+        patient.setPassword("hash");
+        patient.setAllergies(new ArrayList<>(patient.getAllergies()));
+        return patient;
+    }
+}
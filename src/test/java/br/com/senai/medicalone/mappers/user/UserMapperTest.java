@@ -0,0 +1,56 @@
+package br.com.senai.medicalone.mappers.user;
+
+import br.com.senai.medicalone.dtos.user.UserRequestDTO;
+import br.com.senai.medicalone.dtos.user.UserResponseDTO;
+import br.com.senai.medicalone.entities.user.RoleType;
+import br.com.senai.medicalone.entities.user.User;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class UserMapperTest {
+
+    private final ModelMapper modelMapper = new ModelMapper();
+    private final UserMapper userMapper = new UserMapper();
+
+    @Test
+    public void testToEntity_MatchesModelMapper() {
+        UserRequestDTO dto = new UserRequestDTO();
+        dto.setName("John Doe");
+        dto.setEmail("john@example.com");
+        dto.setBirthDate(LocalDate.of(1990, 1, 1));
+        dto.setPhone("(99) 9 9999-9999");
+        dto.setCpf("123.456.789-00");
+        dto.setPassword("password123");
+        dto.setRole(RoleType.MEDICO);
+
+        User expected = modelMapper.map(dto, User.class);
+        User actual = userMapper.toEntity(dto);
+
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    @Test
+    public void testToResponseDTO_MatchesModelMapper() {
+        User user = new User();
+        user.setId(9L);
+        user.setName("John Doe");
+        user.setEmail("john@example.com");
+        user.setBirthDate(LocalDate.of(1990, 1, 1));
+        user.setPhone("99999999999");
+        user.setCpf("12345678900");
+        user.setPassword("hash");
+        user.setRole(RoleType.PACIENTE);
+        user.setPatientId(4L);
+
+        UserResponseDTO expected = modelMapper.map(user, UserResponseDTO.class);
+        UserResponseDTO actual = userMapper.toResponseDTO(user);
+
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+        assertNull(userMapper.toResponseDTO(null));
+    }
+}
@@ -95,6 +95,14 @@ public class ExamRepositoryTest {
         assertThat(exams.getContent().get(0).getPatient().getId()).isEqualTo(patient.getId());
     }
 
+    @Test
+    public void testFindByPatientIdAndName() {
+        examRepository.save(exam);
+        Pageable pageable = PageRequest.of(0, 10);
+        assertThat(examRepository.findByPatientIdAndName(patient.getId(), "Blood Test", pageable)).hasSize(1);
+        assertThat(examRepository.findByPatientIdAndName(patient.getId(), "Raio-X", pageable)).isEmpty();
+    }
+
     @Test
     public void testSaveExam() {
         Exam savedExam = examRepository.save(exam);
@@ -1,24 +1,43 @@
 package br.com.senai.medicalone.repositories.patient;
 
+import br.com.senai.medicalone.dtos.patient.PatientSummaryDTO;
+import br.com.senai.medicalone.entities.exam.Exam;
 import br.com.senai.medicalone.entities.patient.Patient;
+import br.com.senai.medicalone.entities.user.RoleType;
+import br.com.senai.medicalone.entities.user.User;
+import br.com.senai.medicalone.repositories.user.UserRepository;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @ActiveProfiles("test")
 public class PatientRepositoryTest {
 
     @Autowired
     private PatientRepository patientRepository;
 
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
     private Patient patient;
 
     @BeforeEach
@@ -117,4 +136,98 @@ public class PatientRepositoryTest {
         assertThat(foundPatient).isNotNull();
         assertThat(foundPatient.getCpf()).isEqualTo("12345678900");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testFindSummariesAfter_PagesByNameAndId() {
+        patientRepository.save(patient);
+        Patient other = Patient.builder()
+                .fullName("Ana Souza")
+                .gender("Feminino")
+                .birthDate(LocalDate.of(1985, 5, 5))
+                .cpf("987.654.321-00")
+                .rg("0987654321")
+                .rgIssuer("SSP")
+                .maritalStatus("Casado")
+                .phone("88888888888")
+                .email("ana@example.com")
+                .placeOfBirth("Campinas")
+                .emergencyContact("88888888888")
+                .healthInsurance("Amil")
+                .zipCode("12345-678")
+                .city("Campinas")
+                .state("SP")
+                .street("Rua Exemplo")
+                .number("456")
+                .neighborhood("Centro")
+                .password("password")
+                .build();
+        patientRepository.save(other);
+
+        List<PatientSummaryDTO> first = patientRepository.findSummariesAfter(null, null, null, Limit.of(1));
+        assertThat(first).extracting(PatientSummaryDTO::getFullName).containsExactly("Ana Souza");
+        assertThat(first.get(0).getHealthInsurance()).isEqualTo("Amil");
+
+        List<PatientSummaryDTO> second = patientRepository.findSummariesAfter(null, first.get(0).getFullName(),
+                first.get(0).getId(), Limit.of(1));
+        assertThat(second).extracting(PatientSummaryDTO::getFullName).containsExactly("John Doe");
+
+        List<PatientSummaryDTO> filtered = patientRepository.findSummariesAfter("user@", null, null, Limit.of(5));
+        assertThat(filtered).extracting(PatientSummaryDTO::getEmail).containsExactly("user@example.com");
+    }
+
+    @Test
+    public void testFindSummariesByFilter_ReturnsPagedSummaries() {
+        patientRepository.save(patient);
+
+        Page<PatientSummaryDTO> page = patientRepository.findSummariesByFilter("john", PageRequest.of(0, 10));
+
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        PatientSummaryDTO summary = page.getContent().get(0);
+        assertThat(summary.getId()).isEqualTo(patient.getId());
+        assertThat(summary.getCpf()).isEqualTo(patient.getCpf());
+        assertThat(summary.getPhone()).isEqualTo("99999999999");
+        assertThat(summary.getHealthInsurance()).isEqualTo("Unimed");
+    }
+
+    @Test
+    public void testDeleteCheckFetchPlan_LoadsUserWithPatient() {
+        User user = new User();
+        user.setName("John Doe");
+        user.setEmail("user@example.com");
+        user.setPassword("password");
+        user.setBirthDate(LocalDate.of(1990, 1, 1));
+        user.setCpf("12345678900");
+        user.setPhone("99999999999");
+        user.setRole(RoleType.PACIENTE);
+        userRepository.save(user);
+        patient.setUser(user);
+        patientRepository.save(patient);
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        Patient toDelete = patientRepository.findForDeleteById(patient.getId()).orElseThrow();
+        assertThat(toDelete.getUser().getEmail()).isEqualTo("user@example.com");
+        assertThat(patientRepository.hasLinkedRecords(patient.getId())).isFalse();
+        assertThat(Hibernate.isInitialized(toDelete.getExams())).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testHasLinkedRecords_TrueWhenExamExists() {
+        patientRepository.save(patient);
+        Exam exam = new Exam();
+        exam.setName("Hemograma Completo");
+        exam.setExamDate(LocalDate.of(2023, 10, 1));
+        exam.setExamTime(LocalTime.of(8, 30));
+        exam.setType("Sangue");
+        exam.setLaboratory("Laboratório XYZ");
+        exam.setPatient(patient);
+        entityManager.persist(exam);
+        entityManager.flush();
+
+        assertThat(patientRepository.hasLinkedRecords(patient.getId())).isTrue();
+    }
+}
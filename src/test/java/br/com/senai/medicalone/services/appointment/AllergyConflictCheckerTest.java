@@ -0,0 +1,67 @@
+package br.com.senai.medicalone.services.appointment;
+
+import br.com.senai.medicalone.config.cache.InvalidationBus;
+import br.com.senai.medicalone.config.cache.LoopbackInvalidationBus;
+import br.com.senai.medicalone.entities.patient.Patient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AllergyConflictCheckerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private InvalidationBus invalidationBus;
+    private AllergyConflictChecker checker;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        invalidationBus = new LoopbackInvalidationBus();
+        checker = new AllergyConflictChecker(new ClassPathResource("medication-synonyms.txt"), 100, 60000,
+                meterRegistry, invalidationBus);
+    }
+
+    @Test
+    void findConflicts_MatchesSynonymsAndBrandNames() {
+        Patient patient = patient(1L, "Dipirona", "Penicilina");
+
+        assertEquals(List.of("Dipirona"), checker.findConflicts(patient, "NOVALGINA 1g de 6/6h"));
+        assertEquals(List.of("Penicilina"), checker.findConflicts(patient, "Amoxicilina 500mg"));
+        assertEquals(List.of(), checker.findConflicts(patient, "Paracetamol 750mg"));
+    }
+
+    @Test
+    void findConflicts_RebuildsMatcherWhenAllergiesChange() {
+        Patient patient = patient(1L, "Dipirona");
+        assertEquals(List.of(), checker.findConflicts(patient, "Ibuprofeno 600mg"));
+
+        patient.setAllergies(List.of("Dipirona", "Ibuprofeno"));
+
+        assertEquals(List.of("Ibuprofeno"), checker.findConflicts(patient, "Ibuprofeno 600mg"));
+    }
+
+    @Test
+    void findConflicts_ReusesCompiledMatcherUntilPatientIsInvalidated() {
+        Patient patient = patient(1L, "Dipirona");
+        checker.findConflicts(patient, "Dipirona");
+        checker.findConflicts(patient, "Dipirona");
+        assertEquals(1.0, meterRegistry.get("cache.gets").tags("cache", "allergyMatchers", "result", "hit").functionCounter().count());
+
+        invalidationBus.publish(InvalidationBus.PATIENT, 1L);
+        checker.findConflicts(patient, "Dipirona");
+
+        assertEquals(2.0, meterRegistry.get("cache.gets").tags("cache", "allergyMatchers", "result", "miss").functionCounter().count());
+    }
+
+    private Patient patient(Long id, String... allergies) {
+        Patient patient = new Patient();
+        patient.setId(id);
+        patient.setAllergies(List.of(allergies));
+        return patient;
+    }
+}
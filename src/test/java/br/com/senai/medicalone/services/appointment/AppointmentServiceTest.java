@@ -1,13 +1,17 @@
 package br.com.senai.medicalone.services.appointment;
 
+import br.com.senai.medicalone.config.cache.InvalidationBus;
+import br.com.senai.medicalone.config.data.DatePartitionMaintenance;
 import br.com.senai.medicalone.dtos.appointment.AppointmentRequestDTO;
 import br.com.senai.medicalone.dtos.appointment.AppointmentResponseDTO;
 import br.com.senai.medicalone.entities.appointment.Appointment;
+import br.com.senai.medicalone.entities.patient.Patient;
 import br.com.senai.medicalone.exceptions.customexceptions.AppointmentNotFoundException;
 import br.com.senai.medicalone.exceptions.customexceptions.BadRequestException;
 import br.com.senai.medicalone.mappers.appointment.AppointmentMapper;
 import br.com.senai.medicalone.repositories.appointment.AppointmentRepository;
 import br.com.senai.medicalone.repositories.patient.PatientRepository;
+import br.com.senai.medicalone.services.dashboard.DashboardRollupService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -17,6 +21,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -38,6 +43,18 @@ class AppointmentServiceTest {
     @Mock
     private PatientRepository patientRepository;
 
+    @Mock
+    private DashboardRollupService dashboardRollupService;
+
+    @Mock
+    private InvalidationBus invalidationBus;
+
+    @Mock
+    private DatePartitionMaintenance datePartitionMaintenance;
+
+    @Mock
+    private AllergyConflictChecker allergyConflictChecker;
+
     @InjectMocks
     private AppointmentService appointmentService;
 
@@ -60,7 +77,7 @@ class AppointmentServiceTest {
         Appointment appointment = new Appointment();
         appointment.setId(1L);
 
-        when(patientRepository.existsById(1L)).thenReturn(true);
+        when(patientRepository.findById(1L)).thenReturn(Optional.of(new Patient()));
         when(appointmentMapper.toEntity(any(AppointmentRequestDTO.class))).thenReturn(appointment);
         when(appointmentRepository.save(any(Appointment.class))).thenReturn(appointment);
         when(appointmentMapper.toResponseDTO(any(Appointment.class))).thenReturn(new AppointmentResponseDTO());
@@ -71,6 +88,50 @@ class AppointmentServiceTest {
         verify(appointmentRepository, times(1)).save(any(Appointment.class));
     }
 
+    @Test
+    void createAppointment_FlagsAllergyConflicts() {
+        AppointmentRequestDTO requestDTO = new AppointmentRequestDTO();
+        requestDTO.setAppointmentReason("Dor de cabeça");
+        requestDTO.setAppointmentDate(LocalDate.now());
+        requestDTO.setAppointmentTime(LocalTime.now());
+        requestDTO.setProblemDescription("Enxaqueca");
+        requestDTO.setPrescribedMedication("Novalgina 1g");
+        requestDTO.setPatientId(1L);
+
+        Patient patient = new Patient();
+        Appointment appointment = new Appointment();
+        appointment.setId(1L);
+
+        when(patientRepository.findById(1L)).thenReturn(Optional.of(patient));
+        when(allergyConflictChecker.findConflicts(patient, "Novalgina 1g")).thenReturn(List.of("Dipirona"));
+        when(appointmentMapper.toEntity(any(AppointmentRequestDTO.class))).thenReturn(appointment);
+        when(appointmentRepository.save(any(Appointment.class))).thenReturn(appointment);
+        when(appointmentMapper.toResponseDTO(any(Appointment.class))).thenReturn(new AppointmentResponseDTO());
+
+        AppointmentResponseDTO responseDTO = appointmentService.createAppointment(requestDTO);
+
+        assertEquals(List.of("Dipirona"), responseDTO.getAllergyConflicts());
+    }
+
+    @Test
+    void createAppointment_AllergyConflictRejectedWhenConfigured() {
+        AppointmentRequestDTO requestDTO = new AppointmentRequestDTO();
+        requestDTO.setAppointmentReason("Dor de cabeça");
+        requestDTO.setAppointmentDate(LocalDate.now());
+        requestDTO.setAppointmentTime(LocalTime.now());
+        requestDTO.setProblemDescription("Enxaqueca");
+        requestDTO.setPrescribedMedication("Novalgina 1g");
+        requestDTO.setPatientId(1L);
+
+        Patient patient = new Patient();
+        ReflectionTestUtils.setField(appointmentService, "rejectAllergyConflicts", true);
+        when(patientRepository.findById(1L)).thenReturn(Optional.of(patient));
+        when(allergyConflictChecker.findConflicts(patient, "Novalgina 1g")).thenReturn(List.of("Dipirona"));
+
+        assertThrows(BadRequestException.class, () -> appointmentService.createAppointment(requestDTO));
+        verify(appointmentRepository, never()).save(any(Appointment.class));
+    }
+
     @Test
     void createAppointment_MissingReason_ShouldThrowException() {
         AppointmentRequestDTO requestDTO = new AppointmentRequestDTO();
@@ -95,7 +156,7 @@ class AppointmentServiceTest {
         requestDTO.setObservations("None");
         requestDTO.setPatientId(1L);
 
-        when(patientRepository.existsById(1L)).thenReturn(false);
+        when(patientRepository.findById(1L)).thenReturn(Optional.empty());
 
         assertThrows(BadRequestException.class, () -> appointmentService.createAppointment(requestDTO));
     }
@@ -146,6 +207,7 @@ class AppointmentServiceTest {
         AppointmentResponseDTO responseDTO = appointmentService.updateAppointment(id, requestDTO);
 
         assertNotNull(responseDTO);
+        verify(invalidationBus, times(1)).publish(InvalidationBus.APPOINTMENT, id);
     }
 
     @Test
@@ -167,18 +229,21 @@ class AppointmentServiceTest {
     void deleteAppointment_Success() {
         Long id = 1L;
 
-        when(appointmentRepository.existsById(id)).thenReturn(true);
+        Appointment appointment = new Appointment();
+        appointment.setId(id);
+        when(appointmentRepository.findById(id)).thenReturn(Optional.of(appointment));
 
         appointmentService.deleteAppointment(id);
 
-        verify(appointmentRepository, times(1)).deleteById(id);
+        verify(appointmentRepository, times(1)).delete(appointment);
+        verify(dashboardRollupService, times(1)).recordAppointment(appointment, -1);
     }
 
     @Test
     void deleteAppointment_NotFound() {
         Long id = 1L;
 
-        when(appointmentRepository.existsById(id)).thenReturn(false);
+        when(appointmentRepository.findById(id)).thenReturn(Optional.empty());
 
         assertThrows(AppointmentNotFoundException.class, () -> appointmentService.deleteAppointment(id));
     }
@@ -1,6 +1,6 @@
 package br.com.senai.medicalone.services.auth;
 
-import br.com.senai.medicalone.entities.user.User;
+import br.com.senai.medicalone.config.security.AuthenticatedUser;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,6 +12,7 @@ import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -24,19 +25,16 @@ public class AuthServiceTest {
 
     private Authentication authentication;
     private SecurityContext securityContext;
-    private User user;
 
     @BeforeEach
     public void setUp() {
         authentication = mock(Authentication.class);
         securityContext = mock(SecurityContext.class);
-        user = new User();
     }
 
     @Test
     public void testGetAuthenticatedPatientId_Success() {
-        user.setPatientId(1L);
-        when(authentication.getPrincipal()).thenReturn(user);
+        when(authentication.getPrincipal()).thenReturn(authenticatedUser(1L));
         when(securityContext.getAuthentication()).thenReturn(authentication);
 
         try (MockedStatic<SecurityContextHolder> mockedStatic = mockStatic(SecurityContextHolder.class)) {
@@ -50,7 +48,7 @@ public class AuthServiceTest {
 
     @Test
     public void testGetAuthenticatedPatientId_NoPatientAssociated() {
-        when(authentication.getPrincipal()).thenReturn(user);
+        when(authentication.getPrincipal()).thenReturn(authenticatedUser(null));
         when(securityContext.getAuthentication()).thenReturn(authentication);
 
         try (MockedStatic<SecurityContextHolder> mockedStatic = mockStatic(SecurityContextHolder.class)) {
@@ -71,4 +69,8 @@ public class AuthServiceTest {
             assertThrows(UsernameNotFoundException.class, AuthService::getAuthenticatedPatientId);
         }
     }
-}
\ No newline at end of file
+
+    private AuthenticatedUser authenticatedUser(Long patientId) {
+        return new AuthenticatedUser(1L, patientId, "user@example.com", "encoded", List.of());
+    }
+}
@@ -0,0 +1,161 @@
+package br.com.senai.medicalone.services.dashboard;
+
+import br.com.senai.medicalone.config.cache.InvalidationBus;
+import br.com.senai.medicalone.entities.appointment.Appointment;
+import br.com.senai.medicalone.entities.exam.Exam;
+import br.com.senai.medicalone.entities.patient.Patient;
+import br.com.senai.medicalone.entities.user.User;
+import br.com.senai.medicalone.repositories.appointment.AppointmentRepository;
+import br.com.senai.medicalone.repositories.exam.ExamRepository;
+import br.com.senai.medicalone.repositories.patient.PatientRepository;
+import br.com.senai.medicalone.repositories.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+class DashboardCountersTest {
+
+    @Mock
+    private PatientRepository patientRepository;
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Mock
+    private ExamRepository examRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private InvalidationBus invalidationBus;
+
+    @InjectMocks
+    private DashboardCounters dashboardCounters;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(patientRepository.count()).thenReturn(10L);
+        when(appointmentRepository.count()).thenReturn(20L);
+        when(examRepository.count()).thenReturn(30L);
+        when(userRepository.count()).thenReturn(40L);
+    }
+
+    @Test
+    void snapshot_SeedsOnceFromDatabase() {
+        Map<String, Long> first = dashboardCounters.snapshot();
+        Map<String, Long> second = dashboardCounters.snapshot();
+
+        assertEquals(Map.of("patientCount", 10L, "appointmentCount", 20L, "examCount", 30L, "userCount", 40L), first);
+        assertEquals(first, second);
+        verify(patientRepository, times(1)).count();
+        verify(userRepository, times(1)).count();
+    }
+
+    @Test
+    void incrementAndDecrement_UpdateCountersInMemory() {
+        dashboardCounters.snapshot();
+
+        dashboardCounters.increment(Patient.class);
+        dashboardCounters.increment(Patient.class);
+        dashboardCounters.increment(Exam.class);
+        dashboardCounters.decrement(Appointment.class);
+        dashboardCounters.decrement(User.class);
+        dashboardCounters.increment(String.class);
+
+        Map<String, Long> statistics = dashboardCounters.snapshot();
+        assertEquals(12L, statistics.get("patientCount"));
+        assertEquals(19L, statistics.get("appointmentCount"));
+        assertEquals(31L, statistics.get("examCount"));
+        assertEquals(39L, statistics.get("userCount"));
+        verify(patientRepository, times(1)).count();
+    }
+
+    @Test
+    void reconcile_CorrectsDrift() {
+        dashboardCounters.snapshot();
+        dashboardCounters.increment(Patient.class);
+        when(patientRepository.count()).thenReturn(8L);
+
+        dashboardCounters.reconcile();
+
+        assertEquals(8L, dashboardCounters.snapshot().get("patientCount"));
+        assertEquals(20L, dashboardCounters.snapshot().get("appointmentCount"));
+    }
+
+    @Test
+    void invalidate_ReseedsOnNextSnapshot() {
+        dashboardCounters.snapshot();
+        when(examRepository.count()).thenReturn(31L);
+
+        dashboardCounters.invalidate();
+
+        assertEquals(31L, dashboardCounters.snapshot().get("examCount"));
+        verify(examRepository, times(2)).count();
+    }
+
+    @Test
+    void snapshot_RetriesSeedAfterFailure() {
+        when(patientRepository.count()).thenThrow(new RuntimeException("Database error")).thenReturn(10L);
+
+        assertThrows(RuntimeException.class, () -> dashboardCounters.snapshot());
+
+        assertEquals(10L, dashboardCounters.snapshot().get("patientCount"));
+    }
+
+    @Test
+    void reconcile_KeepsCounterWhileWriteIsPending() {
+        dashboardCounters.snapshot();
+        dashboardCounters.beginWrite(Patient.class);
+        when(patientRepository.count()).thenReturn(11L);
+
+        dashboardCounters.reconcile();
+        assertEquals(10L, dashboardCounters.snapshot().get("patientCount"));
+
+        dashboardCounters.endWrite(Patient.class, 1);
+        assertEquals(11L, dashboardCounters.snapshot().get("patientCount"));
+
+        dashboardCounters.reconcile();
+        assertEquals(11L, dashboardCounters.snapshot().get("patientCount"));
+    }
+
+    @Test
+    void subscribe_ReseedsOnlyOnBusReconnect() {
+        ArgumentCaptor<Consumer<String>> listener = ArgumentCaptor.forClass(Consumer.class);
+        dashboardCounters.subscribe();
+        verify(invalidationBus).subscribe(eq(InvalidationBus.PATIENT), listener.capture());
+        dashboardCounters.snapshot();
+
+        listener.getValue().accept("7");
+        dashboardCounters.snapshot();
+        verify(patientRepository, times(1)).count();
+
+        listener.getValue().accept(null);
+        dashboardCounters.snapshot();
+        verify(patientRepository, times(2)).count();
+    }
+
+    @Test
+    void invalidate_DuringSeedIsNotLost() {
+        when(examRepository.count()).thenAnswer(invocation -> {
+            dashboardCounters.invalidate();
+            return 30L;
+        }).thenReturn(31L);
+
+        dashboardCounters.snapshot();
+
+        assertEquals(31L, dashboardCounters.snapshot().get("examCount"));
+        verify(examRepository, times(2)).count();
+    }
+}
@@ -1,5 +1,7 @@
 package br.com.senai.medicalone.services.exam;
 
+import br.com.senai.medicalone.config.cache.InvalidationBus;
+import br.com.senai.medicalone.config.data.DatePartitionMaintenance;
 import br.com.senai.medicalone.dtos.exam.ExamRequestDTO;
 import br.com.senai.medicalone.dtos.exam.ExamResponseDTO;
 import br.com.senai.medicalone.entities.exam.Exam;
@@ -10,6 +12,7 @@ import br.com.senai.medicalone.exceptions.customexceptions.PatientNotFoundExcept
 import br.com.senai.medicalone.mappers.exam.ExamMapper;
 import br.com.senai.medicalone.repositories.exam.ExamRepository;
 import br.com.senai.medicalone.repositories.patient.PatientRepository;
+import br.com.senai.medicalone.services.dashboard.DashboardRollupService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -40,6 +43,15 @@ class ExamServiceTest {
     @Mock
     private PatientRepository patientRepository;
 
+    @Mock
+    private DashboardRollupService dashboardRollupService;
+
+    @Mock
+    private InvalidationBus invalidationBus;
+
+    @Mock
+    private DatePartitionMaintenance datePartitionMaintenance;
+
     @InjectMocks
     private ExamService examService;
 
@@ -77,6 +89,8 @@ class ExamServiceTest {
 
         assertNotNull(responseDTO);
         verify(examRepository, times(1)).save(any(Exam.class));
+        verify(patientRepository, never()).existsById(anyLong());
+        verify(datePartitionMaintenance).ensurePartition(DatePartitionMaintenance.EXAMS, requestDTO.getExamDate());
     }
 
     @Test
@@ -98,10 +112,7 @@ class ExamServiceTest {
         requestDTO.setExamTime(LocalTime.now());
         requestDTO.setType("Routine");
 
-        Patient patient = new Patient();
-        patient.setId(1L);
-
-        when(patientRepository.findById(anyLong())).thenReturn(Optional.of(patient));
+        when(patientRepository.findById(anyLong())).thenReturn(Optional.of(new Patient()));
         when(examRepository.existsByPatientIdAndExamDateAndExamTime(anyLong(), any(LocalDate.class), any(LocalTime.class))).thenReturn(true);
 
         assertThrows(BadRequestException.class, () -> examService.createExam(requestDTO));
@@ -152,6 +163,7 @@ class ExamServiceTest {
         ExamResponseDTO responseDTO = examService.updateExam(id, requestDTO);
 
         assertNotNull(responseDTO);
+        verify(invalidationBus, times(1)).publish(InvalidationBus.EXAM, id);
     }
 
     @Test
@@ -169,20 +181,25 @@ class ExamServiceTest {
     void deleteExam_Success() {
         Long id = 1L;
 
-        when(examRepository.existsById(id)).thenReturn(true);
+        Exam exam = new Exam();
+        exam.setId(id);
+        when(examRepository.findById(id)).thenReturn(Optional.of(exam));
 
         examService.deleteExam(id);
 
-        verify(examRepository, times(1)).deleteById(id);
+        verify(examRepository, times(1)).delete(exam);
+        verify(dashboardRollupService, times(1)).recordExam(exam, -1);
+        verify(invalidationBus, times(1)).publish(InvalidationBus.EXAM, id);
     }
 
     @Test
     void deleteExam_NotFound() {
         Long id = 1L;
 
-        when(examRepository.existsById(id)).thenReturn(false);
+        when(examRepository.findById(id)).thenReturn(Optional.empty());
 
         assertThrows(ExamNotFoundException.class, () -> examService.deleteExam(id));
+        verify(dashboardRollupService, never()).recordExam(any(), anyLong());
     }
 
     @Test
@@ -216,6 +233,22 @@ class ExamServiceTest {
         assertEquals(2, responseDTOs.getContent().size());
     }
 
+    @Test
+    void listExams_ByPatientAndName_AppliesBothFilters() {
+        String name = "Blood Test";
+        Long patientId = 1L;
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<Exam> examPage = new PageImpl<>(List.of(new Exam()), pageable, 1);
+
+        when(examRepository.findByPatientIdAndName(patientId, name, pageable)).thenReturn(examPage);
+        when(examMapper.toResponseDTO(any(Exam.class))).thenReturn(new ExamResponseDTO());
+
+        Page<ExamResponseDTO> responseDTOs = examService.listExams(name, patientId, pageable);
+
+        assertEquals(1, responseDTOs.getContent().size());
+        verify(examRepository, never()).findByPatientId(any(), any());
+    }
+
     @Test
     void createExam_MissingName_ShouldThrowException() {
         ExamRequestDTO requestDTO = new ExamRequestDTO();
@@ -227,10 +260,7 @@ class ExamServiceTest {
         requestDTO.setDocumentUrl("http://example.com/document");
         requestDTO.setResults("Normal");
 
-        Patient patient = new Patient();
-        patient.setId(1L);
-
-        when(patientRepository.findById(anyLong())).thenReturn(Optional.of(patient));
+        when(patientRepository.findById(anyLong())).thenReturn(Optional.of(new Patient()));
 
         assertThrows(BadRequestException.class, () -> examService.createExam(requestDTO));
     }
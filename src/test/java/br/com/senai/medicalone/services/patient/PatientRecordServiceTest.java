@@ -21,6 +21,7 @@ import org.springframework.data.domain.Pageable;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -91,18 +92,33 @@ public class PatientRecordServiceTest {
     public void testGetAllPatientRecords_Success() {
         Pageable pageable = mock(Pageable.class);
         Page<Patient> patientsPage = new PageImpl<>(List.of(patient));
-        when(patientRepository.findAll(pageable)).thenReturn(patientsPage);
-        when(examService.getExamsByPatientId(1L, Pageable.unpaged())).thenReturn(new PageImpl<>(exams));
-        when(appointmentService.getAppointmentsByPatientId(1L, Pageable.unpaged())).thenReturn(new PageImpl<>(appointments));
+        when(patientRepository.findRecordsByFilter(null, null, pageable)).thenReturn(patientsPage);
+        when(examService.getExamsByPatientIds(List.of(1L))).thenReturn(Map.of(1L, exams));
+        when(appointmentService.getAppointmentsByPatientIds(List.of(1L))).thenReturn(Map.of());
         when(patientRecordMapper.toDTO(patient, exams, appointments)).thenReturn(patientRecordDTO);
 
         Page<PatientRecordDTO> result = patientRecordService.getAllPatientRecords(null, null, pageable);
 
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
-        verify(patientRepository, times(1)).findAll(pageable);
-        verify(examService, times(1)).getExamsByPatientId(1L, Pageable.unpaged());
-        verify(appointmentService, times(1)).getAppointmentsByPatientId(1L, Pageable.unpaged());
+        verify(patientRepository, times(1)).findRecordsByFilter(null, null, pageable);
+        verify(examService, times(1)).getExamsByPatientIds(List.of(1L));
+        verify(appointmentService, times(1)).getAppointmentsByPatientIds(List.of(1L));
+        verify(examService, never()).getExamsByPatientId(anyLong(), any(Pageable.class));
+        verify(appointmentService, never()).getAppointmentsByPatientId(anyLong(), any(Pageable.class));
         verify(patientRecordMapper, times(1)).toDTO(patient, exams, appointments);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetAllPatientRecords_AppliesFilters() {
+        Pageable pageable = mock(Pageable.class);
+        when(patientRepository.findRecordsByFilter(2L, "Maria", pageable)).thenReturn(Page.empty());
+
+        Page<PatientRecordDTO> result = patientRecordService.getAllPatientRecords("Maria", 2L, pageable);
+
+        assertTrue(result.getContent().isEmpty());
+        verify(patientRepository, times(1)).findRecordsByFilter(2L, "Maria", pageable);
+        verify(examService, never()).getExamsByPatientIds(anyCollection());
+        verify(appointmentService, never()).getAppointmentsByPatientIds(anyCollection());
+    }
+}
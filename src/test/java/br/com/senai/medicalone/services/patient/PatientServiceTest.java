@@ -1,13 +1,18 @@
 package br.com.senai.medicalone.services.patient;
 
+import br.com.senai.medicalone.config.cache.InvalidationBus;
+import br.com.senai.medicalone.config.security.UserDetailsCache;
+import br.com.senai.medicalone.config.data.TrigramSearchSupport;
 import br.com.senai.medicalone.dtos.patient.PatientRequestDTO;
 import br.com.senai.medicalone.dtos.patient.PatientResponseDTO;
+import br.com.senai.medicalone.dtos.patient.PatientSummaryDTO;
 import br.com.senai.medicalone.dtos.user.UserRequestDTO;
 import br.com.senai.medicalone.dtos.user.UserResponseDTO;
 import br.com.senai.medicalone.entities.patient.Patient;
 import br.com.senai.medicalone.entities.user.User;
 import br.com.senai.medicalone.exceptions.customexceptions.BadRequestException;
 import br.com.senai.medicalone.exceptions.customexceptions.PatientAlreadyExistsException;
+import br.com.senai.medicalone.exceptions.customexceptions.PatientHasLinkedRecordsException;
 import br.com.senai.medicalone.exceptions.customexceptions.PatientNotFoundException;
 import br.com.senai.medicalone.mappers.patient.PatientMapper;
 import br.com.senai.medicalone.repositories.patient.PatientRepository;
@@ -21,12 +26,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -48,6 +59,12 @@ class PatientServiceTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
+    @Mock
+    private InvalidationBus invalidationBus;
+
     @InjectMocks
     private PatientService patientService;
 
@@ -57,6 +74,9 @@ class PatientServiceTest {
     @Mock
     private PreRegisterUserRepository preRegisterUserRepository;
 
+    @Mock
+    private TrigramSearchSupport trigramSearchSupport;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -210,18 +230,15 @@ class PatientServiceTest {
         existingPatient.setId(id);
         existingPatient.setFullName("John Doe");
 
-        Patient updatedPatient = new Patient();
-        updatedPatient.setId(id);
-        updatedPatient.setFullName("John Doe atualização");
-
         when(patientRepository.findById(id)).thenReturn(Optional.of(existingPatient));
-        when(patientMapper.toEntity(any(PatientRequestDTO.class))).thenReturn(updatedPatient);
-        when(patientRepository.save(any(Patient.class))).thenReturn(updatedPatient);
-        when(patientMapper.toResponseDTO(any(Patient.class))).thenReturn(new PatientResponseDTO());
+        when(patientRepository.save(existingPatient)).thenReturn(existingPatient);
+        when(patientMapper.toResponseDTO(existingPatient)).thenReturn(new PatientResponseDTO());
 
         PatientResponseDTO responseDTO = patientService.updatePatient(id, requestDTO);
 
         assertNotNull(responseDTO);
+        verify(patientMapper).updateEntity(requestDTO, existingPatient);
+        verify(patientMapper, never()).toEntity(any(PatientRequestDTO.class));
     }
 
     @Test
@@ -264,15 +281,34 @@ class PatientServiceTest {
         Patient patient = new Patient();
         patient.setId(id);
         User user = new User();
+        user.setId(2L);
+        user.setEmail("patient@example.com");
         patient.setUser(user);
 
-        when(patientRepository.findById(id)).thenReturn(Optional.of(patient));
+        when(patientRepository.findForDeleteById(id)).thenReturn(Optional.of(patient));
+        when(patientRepository.hasLinkedRecords(id)).thenReturn(false);
 
         boolean result = patientService.deletePatient(id);
 
         assertTrue(result);
-        verify(patientRepository, times(1)).deleteById(id);
+        verify(patientRepository, times(1)).delete(patient);
         verify(userRepository, times(1)).delete(user);
+        verify(userDetailsCache, times(1)).evict("patient@example.com", 2L);
+        verify(invalidationBus, times(1)).publish(InvalidationBus.PATIENT, id);
+    }
+
+    @Test
+    void deletePatient_HasLinkedRecords_ShouldThrowException() {
+        Long id = 1L;
+        Patient patient = new Patient();
+        patient.setId(id);
+
+        when(patientRepository.findForDeleteById(id)).thenReturn(Optional.of(patient));
+        when(patientRepository.hasLinkedRecords(id)).thenReturn(true);
+
+        assertThrows(PatientHasLinkedRecordsException.class, () -> patientService.deletePatient(id));
+        verify(patientRepository, never()).delete(any(Patient.class));
+        verify(userRepository, never()).delete(any(User.class));
     }
 
     @Test
@@ -297,6 +333,70 @@ class PatientServiceTest {
         assertNotNull(responseDTOPage);
     }
 
+    @Test
+    void getAllPatientsFiltered_TrigramAvailable_UsesTrigramSearch() {
+        Pageable pageable = mock(Pageable.class);
+        Page<PatientSummaryDTO> summariesPage = mock(Page.class);
+
+        when(trigramSearchSupport.isTrigramSearchAvailable()).thenReturn(true);
+        when(patientRepository.findSummariesByTrigramFilter("john", pageable)).thenReturn(summariesPage);
+
+        Page<PatientSummaryDTO> responseDTOPage = patientService.getAllPatientsFiltered("john", pageable);
+
+        assertSame(summariesPage, responseDTOPage);
+        verify(patientRepository, never()).findSummariesByFilter(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    void getAllPatientsFiltered_TrigramUnavailable_UsesLikeSearch() {
+        Pageable pageable = mock(Pageable.class);
+        Page<PatientSummaryDTO> summariesPage = mock(Page.class);
+
+        when(trigramSearchSupport.isTrigramSearchAvailable()).thenReturn(false);
+        when(patientRepository.findSummariesByFilter("john", pageable)).thenReturn(summariesPage);
+
+        Page<PatientSummaryDTO> responseDTOPage = patientService.getAllPatientsFiltered("john", pageable);
+
+        assertSame(summariesPage, responseDTOPage);
+        verify(patientRepository, never()).findSummariesByTrigramFilter(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    void getAllPatientsFiltered_BlankTerm_UsesLikeSearch() {
+        Pageable pageable = mock(Pageable.class);
+        Page<PatientSummaryDTO> summariesPage = mock(Page.class);
+
+        when(patientRepository.findSummariesByFilter(null, pageable)).thenReturn(summariesPage);
+
+        Page<PatientSummaryDTO> responseDTOPage = patientService.getAllPatientsFiltered(null, pageable);
+
+        assertSame(summariesPage, responseDTOPage);
+        verify(trigramSearchSupport, never()).isTrigramSearchAvailable();
+        verify(patientMapper, never()).toResponseDTO(any());
+    }
+
+    @Test
+    void scrollPatientsFiltered_MoreRows_ReturnsWindowWithNextPosition() {
+        List<PatientSummaryDTO> rows = List.of(
+                new PatientSummaryDTO(1L, "Ana Souza", "11111111111", "1111", "ana@example.com", "Unimed"),
+                new PatientSummaryDTO(2L, "John Doe", "22222222222", "2222", "john@example.com", "Unimed"));
+        when(patientRepository.findSummariesAfter(null, null, null, Limit.of(2))).thenReturn(rows);
+
+        Window<PatientSummaryDTO> window = patientService.scrollPatientsFiltered(" ", ScrollPosition.keyset(), 1);
+
+        assertEquals(1, window.size());
+        assertTrue(window.hasNext());
+        KeysetScrollPosition next = (KeysetScrollPosition) window.positionAt(0);
+        assertEquals(Map.of("fullName", "Ana Souza", "id", 1L), next.getKeys());
+    }
+
+    @Test
+    void scrollPatientsFiltered_IncompleteCursor_ShouldThrowException() {
+        KeysetScrollPosition position = ScrollPosition.forward(Map.of("fullName", "Ana Souza"));
+
+        assertThrows(BadRequestException.class, () -> patientService.scrollPatientsFiltered(null, position, 1));
+    }
+
     @Test
     void createPatient_MissingFullName_ShouldThrowException() {
         PatientRequestDTO requestDTO = new PatientRequestDTO();
@@ -309,6 +409,7 @@ class PatientServiceTest {
     void getPatientByCpf_Success() {
         String cpf = "123.456.789-00";
         Patient patient = new Patient();
+        patient.setId(1L);
         patient.setCpf(cpf);
         patient.setFullName("John Doe");
 
@@ -333,6 +434,7 @@ class PatientServiceTest {
     void getPatientsByName_Success() {
         String name = "John Doe";
         Patient patient = new Patient();
+        patient.setId(1L);
         patient.setFullName(name);
 
         when(patientRepository.findByName(name)).thenReturn(List.of(patient));
@@ -353,6 +455,52 @@ class PatientServiceTest {
         assertThrows(PatientNotFoundException.class, () -> patientService.getPatientsByName(name));
     }
 
+    @Test
+    void getPatientsByName_NormalizedModeSearchesKeyPrefix() {
+        Patient patient = new Patient();
+        patient.setFullName("José da Conceição");
+
+        when(patientRepository.findByNameKeyRange("jose da c", "jose da d")).thenReturn(List.of(patient));
+        when(patientMapper.toResponseDTO(any(Patient.class))).thenReturn(new PatientResponseDTO());
+
+        List<PatientResponseDTO> responseDTOs = patientService.getPatientsByName(" JOSÉ  da C", PatientService.NAME_MODE_NORMALIZED);
+
+        assertEquals(1, responseDTOs.size());
+        verify(patientRepository, never()).findByName(anyString());
+    }
+
+    @Test
+    void getPatientsByName_PhoneticModeSearchesPhoneticPrefix() {
+        Patient patient = new Patient();
+        patient.setFullName("Luiz Souza");
+
+        when(patientRepository.findByNamePhoneticRange("luis sous", "luis sout")).thenReturn(List.of(patient));
+        when(patientMapper.toResponseDTO(any(Patient.class))).thenReturn(new PatientResponseDTO());
+
+        List<PatientResponseDTO> responseDTOs = patientService.getPatientsByName("Luís Souz", PatientService.NAME_MODE_PHONETIC);
+
+        assertEquals(1, responseDTOs.size());
+    }
+
+    @Test
+    void getPatientsByName_PhoneticModeDropsOpenEndingOfPartialWord() {
+        Patient patient = new Patient();
+        patient.setFullName("Lucia Souza");
+
+        when(patientRepository.findByNamePhoneticRange("lu", "lv")).thenReturn(List.of(patient));
+        when(patientMapper.toResponseDTO(any(Patient.class))).thenReturn(new PatientResponseDTO());
+
+        List<PatientResponseDTO> responseDTOs = patientService.getPatientsByName("Luc", PatientService.NAME_MODE_PHONETIC);
+
+        assertEquals(1, responseDTOs.size());
+    }
+
+    @Test
+    void getPatientsByName_InvalidMode() {
+        assertThrows(BadRequestException.class, () -> patientService.getPatientsByName("Jose", "soundex"));
+        verifyNoInteractions(patientRepository);
+    }
+
     @Test
     void getPatientsByPhone_Success() {
         String phone = "99999999999";
@@ -456,4 +604,19 @@ class PatientServiceTest {
 
         assertThrows(PatientNotFoundException.class, () -> patientService.getPatientById(id));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getPatientsByAllergy_QueriesNormalizedTerm() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(patientRepository.findSummariesByAllergyTerm("dipirona", pageable)).thenReturn(Page.empty(pageable));
+
+        patientService.getPatientsByAllergy(" Dipírona ", pageable);
+
+        verify(patientRepository).findSummariesByAllergyTerm("dipirona", pageable);
+    }
+
+    @Test
+    void getPatientsByAllergy_BlankSubstance_ShouldThrowException() {
+        assertThrows(BadRequestException.class, () -> patientService.getPatientsByAllergy("  ", PageRequest.of(0, 10)));
+    }
+}
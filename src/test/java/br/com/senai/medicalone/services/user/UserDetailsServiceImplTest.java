@@ -1,5 +1,8 @@
 package br.com.senai.medicalone.services.user;
+import br.com.senai.medicalone.config.security.AuthenticatedUser;
+import br.com.senai.medicalone.config.security.UserDetailsCache;
 import br.com.senai.medicalone.entities.user.PreRegisterUser;
+import br.com.senai.medicalone.entities.user.RoleType;
 import br.com.senai.medicalone.entities.user.User;
 import br.com.senai.medicalone.repositories.user.PreRegisterUserRepository;
 import br.com.senai.medicalone.repositories.user.UserRepository;
@@ -26,6 +29,9 @@ public class UserDetailsServiceImplTest {
     @Mock
     private PreRegisterUserRepository preRegisterUserRepository;
 
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
     @InjectMocks
     private UserDetailsServiceImpl userDetailsService;
 
@@ -35,10 +41,16 @@ public class UserDetailsServiceImplTest {
     @BeforeEach
     public void setUp() {
         user = new User();
+        user.setId(1L);
+        user.setPatientId(3L);
         user.setEmail("user@example.com");
+        user.setPassword("encoded");
+        user.setRole(RoleType.PACIENTE);
 
         preRegisterUser = new PreRegisterUser();
         preRegisterUser.setEmail("preuser@example.com");
+        preRegisterUser.setPassword("encoded");
+        preRegisterUser.setRole(RoleType.ADMIN);
     }
 
     @Test
@@ -47,8 +59,24 @@ public class UserDetailsServiceImplTest {
 
         UserDetails userDetails = userDetailsService.loadUserByUsername("user@example.com");
 
-        assertNotNull(userDetails);
-        assertEquals("user@example.com", userDetails.getUsername());
+        AuthenticatedUser authenticatedUser = assertInstanceOf(AuthenticatedUser.class, userDetails);
+        assertEquals("user@example.com", authenticatedUser.getUsername());
+        assertEquals(1L, authenticatedUser.getId());
+        assertEquals(3L, authenticatedUser.getPatientId());
+        assertNotSame(user, userDetails);
+        verify(userDetailsCache, times(1)).put("user@example.com", authenticatedUser);
+    }
+
+    @Test
+    public void testLoadUserByUsername_CachedUserSkipsRepositories() {
+        AuthenticatedUser cached = AuthenticatedUser.of(user);
+        when(userDetailsCache.get("user@example.com")).thenReturn(cached);
+
+        UserDetails userDetails = userDetailsService.loadUserByUsername("user@example.com");
+
+        assertSame(cached, userDetails);
+        verify(userRepository, never()).findByEmail(anyString());
+        verify(preRegisterUserRepository, never()).findByEmail(anyString());
     }
 
     @Test
@@ -1,5 +1,7 @@
 package br.com.senai.medicalone.services.user;
 
+import br.com.senai.medicalone.config.cache.InvalidationBus;
+import br.com.senai.medicalone.config.security.UserDetailsCache;
 import br.com.senai.medicalone.dtos.user.UserRequestDTO;
 import br.com.senai.medicalone.dtos.user.UserResponseDTO;
 import br.com.senai.medicalone.dtos.user.UserUpdateRequestDTO;
@@ -50,6 +52,12 @@ public class UserServiceTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
+    @Mock
+    private InvalidationBus invalidationBus;
+
     @InjectMocks
     private UserService userService;
 
@@ -156,6 +164,7 @@ public class UserServiceTest {
         assertEquals("987654321", result.getPhone());
         assertEquals("98765432100", result.getCpf());
         verify(userRepository, times(1)).save(any(User.class));
+        verify(userDetailsCache, times(1)).evict("updated@example.com", 1L);
     }
 
     @Test
@@ -175,6 +184,8 @@ public class UserServiceTest {
         userService.deleteUser(1L);
 
         verify(userRepository, times(1)).delete(user);
+        verify(userDetailsCache, times(1)).evict(user.getEmail(), 1L);
+        verify(invalidationBus, times(1)).publish(InvalidationBus.USER, 1L);
     }
 
     @Test
@@ -252,6 +263,7 @@ public class UserServiceTest {
 
         verify(userRepository, times(1)).save(user);
         assertEquals("encodedNewPassword", user.getPassword());
+        verify(userDetailsCache, times(1)).evict("test@example.com", 1L);
     }
 
     @Test
@@ -0,0 +1,39 @@
+package br.com.senai.medicalone.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AhoCorasickMatcherTest {
+
+    @Test
+    public void testFindAll_ReturnsEveryOverlappingPattern() {
+        Map<String, String> patterns = new LinkedHashMap<>();
+        patterns.put("acido acetilsalicilico", "AAS");
+        patterns.put("acetilsalicilico", "Salicilato");
+        patterns.put("dipirona", "Dipirona");
+        AhoCorasickMatcher<String> matcher = new AhoCorasickMatcher<>(patterns);
+
+        assertEquals(Set.of("AAS", "Salicilato", "Dipirona"),
+                matcher.findAll("dipirona 500mg e acido acetilsalicilico 100mg"));
+    }
+
+    @Test
+    public void testFindAll_IgnoresMatchesInsideWords() {
+        AhoCorasickMatcher<String> matcher = new AhoCorasickMatcher<>(Map.of("aas", "AAS", "iodo", "Iodo"));
+
+        assertTrue(matcher.findAll("caaspa periodo").isEmpty());
+        assertEquals(Set.of("AAS"), matcher.findAll("aas, 1x ao dia"));
+    }
+
+    @Test
+    public void testFindAll_NullTextHasNoMatches() {
+        AhoCorasickMatcher<String> matcher = new AhoCorasickMatcher<>(Map.of("latex", "Látex"));
+
+        assertTrue(matcher.findAll(null).isEmpty());
+    }
+}
@@ -0,0 +1,122 @@
+package br.com.senai.medicalone.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoundedExpiringCacheTest {
+
+    private MutableClock clock;
+    private BoundedExpiringCache<String, String> cache;
+
+    @BeforeEach
+    public void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        cache = new BoundedExpiringCache<>(2, clock);
+    }
+
+    @Test
+    public void testGet_HitAndMissAreCounted() {
+        cache.put("a", "1", clock.millis() + 1000);
+
+        assertEquals("1", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void testGet_ExpiredEntryIsDropped() {
+        cache.put("a", "1", clock.millis() + 1000);
+        clock.advance(Duration.ofSeconds(1));
+
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testPut_AlreadyExpiredIsIgnored() {
+        cache.put("a", "1", clock.millis());
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testPut_EvictsLeastRecentlyUsedBeyondMaxSize() {
+        cache.put("a", "1", clock.millis() + 1000);
+        cache.put("b", "2", clock.millis() + 1000);
+        cache.get("a");
+        cache.put("c", "3", clock.millis() + 1000);
+
+        assertEquals(2, cache.size());
+        assertEquals("1", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("3", cache.get("c"));
+    }
+
+    @Test
+    public void testInvalidate() {
+        cache.put("a", "1", clock.millis() + 1000);
+        cache.put("b", "2", clock.millis() + 1000);
+
+        cache.invalidate("a");
+        assertNull(cache.get("a"));
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testInvalidateIf_RemovesMatchingValues() {
+        cache.put("a", "1", clock.millis() + 1000);
+        cache.put("b", "2", clock.millis() + 1000);
+
+        cache.invalidateIf((key, value) -> value.equals("2"));
+
+        assertEquals("1", cache.get("a"));
+        assertNull(cache.get("b"));
+    }
+
+    @Test
+    public void testDisabledCacheNeverStores() {
+        BoundedExpiringCache<String, String> disabled = new BoundedExpiringCache<>(0, clock);
+        disabled.put("a", "1", clock.millis() + 1000);
+
+        assertNull(disabled.get("a"));
+        assertEquals(0, disabled.size());
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
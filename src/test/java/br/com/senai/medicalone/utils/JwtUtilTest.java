@@ -0,0 +1,64 @@
+package br.com.senai.medicalone.utils;
+
+import br.com.senai.medicalone.entities.user.RoleType;
+import br.com.senai.medicalone.entities.user.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtUtilTest {
+
+    private JwtUtil jwtUtil;
+    private User user;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "privateKeyPath", "classpath:private-key.pem");
+        ReflectionTestUtils.setField(jwtUtil, "publicKeyPath", "classpath:public-key.pem");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 600000L);
+        ReflectionTestUtils.setField(jwtUtil, "claimsCacheMaxSize", 100);
+        jwtUtil.init();
+
+        user = new User();
+        user.setEmail("admin@example.com");
+        user.setPassword("password");
+        user.setRole(RoleType.ADMIN);
+        user.setPatientId(7L);
+    }
+
+    @Test
+    public void testGetVerifiedClaims_ReusesVerifiedClaims() {
+        String token = jwtUtil.generateToken(user);
+
+        Claims first = jwtUtil.getVerifiedClaims(token);
+        Claims second = jwtUtil.getVerifiedClaims(token);
+
+        assertSame(first, second);
+        assertEquals("admin@example.com", jwtUtil.getEmailFromToken(token));
+        assertEquals(7L, jwtUtil.getPatientIdFromToken(token));
+        assertTrue(jwtUtil.validateClaims(first, user));
+    }
+
+    @Test
+    public void testGetVerifiedClaims_TamperedTokenIsRejected() {
+        String token = jwtUtil.generateToken(user);
+        jwtUtil.getVerifiedClaims(token);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> jwtUtil.getVerifiedClaims(tampered));
+    }
+
+    @Test
+    public void testGetVerifiedClaims_ExpiredTokenIsRejected() {
+        ReflectionTestUtils.setField(jwtUtil, "expiration", -1000L);
+        String token = jwtUtil.generateToken(user);
+
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.getVerifiedClaims(token));
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.senai.medicalone.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PhoneticEncoderTest {
+
+    @Test
+    public void testEncode_MatchesCommonSpellingVariants() {
+        assertEquals(PhoneticEncoder.encode("Luiz"), PhoneticEncoder.encode("Luis"));
+        assertEquals(PhoneticEncoder.encode("José"), PhoneticEncoder.encode("Jose"));
+        assertEquals(PhoneticEncoder.encode("Conceição"), PhoneticEncoder.encode("Conceicao"));
+        assertEquals(PhoneticEncoder.encode("Thiago Souza"), PhoneticEncoder.encode("Tiago Sousa"));
+        assertEquals(PhoneticEncoder.encode("Raphaela Mattos"), PhoneticEncoder.encode("Rafaela Matos"));
+        assertEquals(PhoneticEncoder.encode("Kátia Nascimento"), PhoneticEncoder.encode("Cátia Nassimento"));
+        assertEquals(PhoneticEncoder.encode("Walter Guimarães"), PhoneticEncoder.encode("Valter Guimaraes"));
+        assertEquals(PhoneticEncoder.encode("Cecília"), PhoneticEncoder.encode("Secilia"));
+        assertEquals(PhoneticEncoder.encode("Gisele"), PhoneticEncoder.encode("Jisele"));
+    }
+
+    @Test
+    public void testEncode_DropsParticlesAndKeepsDistinctNames() {
+        assertEquals("maria silva", PhoneticEncoder.encode("Maria da Silva"));
+        assertEquals(PhoneticEncoder.encode("João dos Santos"), PhoneticEncoder.encode("Joao Santos"));
+        assertNotEquals(PhoneticEncoder.encode("Mário"), PhoneticEncoder.encode("Maria"));
+        assertNull(PhoneticEncoder.encode(null));
+    }
+
+    @Test
+    public void testEncodePrefix_IsPrefixOfFullNameCode() {
+        assertEquals("lu", PhoneticEncoder.encodePrefix("Luc"));
+        assertEquals("g", PhoneticEncoder.encodePrefix("Gu"));
+        assertTrue(PhoneticEncoder.encode("Lucia").startsWith(PhoneticEncoder.encodePrefix("Luc")));
+        assertTrue(PhoneticEncoder.encode("Guilherme").startsWith(PhoneticEncoder.encodePrefix("Gu")));
+        assertTrue(PhoneticEncoder.encode("Nascimento").startsWith(PhoneticEncoder.encodePrefix("Nasc")));
+        assertTrue(PhoneticEncoder.encode("Raphaela").startsWith(PhoneticEncoder.encodePrefix("Rap")));
+        assertTrue(PhoneticEncoder.encode("Sacha").startsWith(PhoneticEncoder.encodePrefix("Sac")));
+        assertTrue(PhoneticEncoder.encode("Queila").startsWith(PhoneticEncoder.encodePrefix("Qu")));
+        assertTrue(PhoneticEncoder.encode("Maria da Silva").startsWith(PhoneticEncoder.encodePrefix("Maria da Si")));
+        assertEquals(PhoneticEncoder.encode("Luis Souza"), PhoneticEncoder.encodePrefix("Luís Souza"));
+    }
+}
@@ -0,0 +1,26 @@
+package br.com.senai.medicalone.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TextNormalizerTest {
+
+    @Test
+    public void testNormalize_RemovesAccentsCaseAndExtraSpaces() {
+        assertEquals("acido acetilsalicilico", TextNormalizer.normalize("  Ácido   ACETILSALICÍLICO "));
+        assertEquals("conceicao", TextNormalizer.normalize("Conceição"));
+        assertNull(TextNormalizer.normalize(null));
+    }
+
+    @Test
+    public void testNormalizeAll_DropsBlankAndDuplicateTerms() {
+        List<String> terms = TextNormalizer.normalizeAll(Arrays.asList("Dipirona", "DIPIRONA", " ", null, "Pólen"));
+
+        assertEquals(List.of("dipirona", "polen"), terms);
+        assertNull(TextNormalizer.normalizeAll(null));
+    }
+}